@@ -162,6 +162,9 @@ public class Properties {
 	@Parameter(key = "total_legitimization_budget", group = "Test Creation", description = "total legitimization budget")
 	public static int TOTAL_LEGITIMIZATION_BUDGET = 30;
 	
+	@Parameter(key = "legitimization_cache", group = "Test Creation", description = "reuse legitimate tests for synthesized tests with the same construction statements")
+	public static boolean LEGITIMIZATION_CACHE = true;
+	
 	@Parameter(key = "apply_smart_seed", group = "Test Creation", description = "let evosuite++ sample seed from dynamically generated seeds")
 	public static boolean APPLY_SMART_SEED = false;
 	
@@ -368,6 +371,13 @@ public class Properties {
 	@Parameter(key = "migrants_communication_rate", group = "Test Creation", description = "Determines amount of migrants per communication step")
 	public static int MIGRANTS_COMMUNICATION_RATE = 3;
 
+	public enum MigrationTopology {
+		RING, FULLY_CONNECTED
+	}
+
+	@Parameter(key = "migration_topology", group = "Test Creation", description = "Determines to which other clients the migrants of a client are sent")
+	public static MigrationTopology MIGRATION_TOPOLOGY = MigrationTopology.RING;
+
 	// ---------------------------------------------------------------
 	// Search algorithm
 	public enum Algorithm {
@@ -625,6 +635,9 @@ public class Properties {
 	@DoubleValue(min = 0.0, max = 1.0)
 	public static double P_RANDOM_TEST_OR_FROM_ARCHIVE = 0.5;
 
+	@Parameter(key = "archive_keep_execution_results", group = "Search Algorithm", description = "Keep the execution results, including the full execution traces, of the tests stored in the archive. If false, the archive stores copies without results, which are executed again when needed")
+	public static boolean ARCHIVE_KEEP_EXECUTION_RESULTS = true;
+
 	@Parameter(key = "exploitation_starts_at_percent", group = "Search Algorithm", description = "Percentage [0,1] of search budget after which exploitation is activated")
 	@DoubleValue(min = 0.0, max = 1.0)
 	public static double EXPLOITATION_STARTS_AT_PERCENT = 0.5;
@@ -635,6 +648,10 @@ public class Properties {
 	@Parameter(key = "max_num_fitness_evaluations_before_giving_up", group = "Search Algorithm", description = "Maximum number of fitness evaluations allowed to be done on the same individual before sampling a new one")
 	public static int MAX_NUM_FITNESS_EVALUATIONS_BEFORE_GIVING_UP = 10;
 
+	@Parameter(key = "novelty_neighbours", group = "Search Algorithm", description = "Number of nearest neighbours the novelty of an individual is computed from (0 means all other individuals)")
+	@IntValue(min = 0)
+	public static int NOVELTY_NEIGHBOURS = 0;
+
 	@Parameter(key = "population", group = "Search Algorithm", description = "Population size of genetic algorithm")
 	@IntValue(min = 1)
 	public static int POPULATION = 50;
@@ -884,9 +901,12 @@ public class Properties {
 	@Parameter(key = "ctg_project_info", group = "Continuous Test Generation", description = "XML file which stores stats about all CTG executions")
 	public static String CTG_PROJECT_INFO = "project_info.xml";
 
-	@Parameter(key = "ctg_history_file", group = "Continuous Test Generation", description = "File with the list of new(A)/modified(M)/deleted(D) files")
+	@Parameter(key = "ctg_history_file", group = "Continuous Test Generation", description = "File with the list of new(A)/modified(M)/deleted(D) files. If not set, modified classes are detected by comparing their bytecode with the fingerprints stored by the previous CTG run (see ctg_fingerprints)")
 	public static String CTG_HISTORY_FILE = null;
 
+	@Parameter(key = "ctg_fingerprints", group = "Continuous Test Generation", description = "File which stores the bytecode fingerprints of the CUTs of the last CTG run. Used by the HISTORY schedule to detect modified classes when no ctg_history_file is given")
+	public static String CTG_FINGERPRINTS = "fingerprints.csv";
+
 	@Parameter(key = "ctg_selected_cuts", group = "Continuous Test Generation", description = "Comma ',' separated list of CUTs to use in CTG. If none specified, then test all classes")
 	public static String CTG_SELECTED_CUTS = null;
 
@@ -1240,6 +1260,9 @@ public class Properties {
 	@Parameter(key = "inheritance_file", description = "Cached version of inheritance tree")
 	public static String INHERITANCE_FILE = "";
 
+	@Parameter(key = "inheritance_cache_dir", description = "Folder where the inheritance data of classpath jars is cached between runs. Caching is disabled if empty")
+	public static String INHERITANCE_CACHE_DIR = "";
+
 	@Parameter(key = "branch_eval", description = "Jeremy's branch evaluation")
 	public static boolean BRANCH_EVAL = false;
 
@@ -1543,6 +1566,12 @@ public class Properties {
 	@Parameter(key = "TARGET_CLASS", group = "Runtime", description = "Class under test")
 	public static String TARGET_CLASS = "";
 
+	@Parameter(key = "target_classes_file_path", group = "Runtime", description = "Location of file listing one class under test per line. If set, the client generates tests for all of them one after the other, instead of only for TARGET_CLASS")
+	public static String TARGET_CLASSES_FILE_PATH = null;
+
+	@Parameter(key = "single_client_for_all_targets", group = "Runtime", description = "When generating tests for a -prefix or -target, use a single client process for all the classes rather than starting a new one for each of them")
+	public static boolean SINGLE_CLIENT_FOR_ALL_TARGETS = false;
+
 	/** Method under test */
 	@Parameter(key = "target_method", group = "Runtime", description = "Method for which to generate tests")
 	public static String TARGET_METHOD = "";
@@ -2580,6 +2609,57 @@ public class Properties {
 		}
 	}
 
+	/**
+	 * Current values of all parameters, such that they can be restored with
+	 * {@link #setParameterValues(Map)} once a run has changed some of them
+	 *
+	 * @return the value of each parameter field
+	 */
+	public static Map<Field, Object> getParameterValues() {
+		Map<Field, Object> values = new HashMap<Field, Object>();
+		for (Field f : parameterMap.values()) {
+			try {
+				Object value = f.get(null);
+				if (value != null && value.getClass().isArray()) {
+					value = copyArray(value);
+				}
+				values.put(f, value);
+			} catch (Exception e) {
+				logger.error("Failed to read property field " + f
+						+ " , " + e.getMessage(), e);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Set the parameters to values previously obtained from
+	 * {@link #getParameterValues()}
+	 *
+	 * @param values
+	 */
+	public static void setParameterValues(Map<Field, Object> values) {
+		for (Map.Entry<Field, Object> entry : values.entrySet()) {
+			Object value = entry.getValue();
+			if (value != null && value.getClass().isArray()) {
+				value = copyArray(value);
+			}
+			try {
+				entry.getKey().set(null, value);
+			} catch (Exception e) {
+				logger.error("Failed to set property field " + entry.getKey()
+						+ " , " + e.getMessage(), e);
+			}
+		}
+	}
+
+	private static Object copyArray(Object array) {
+		int length = Array.getLength(array);
+		Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+		System.arraycopy(array, 0, copy, 0, length);
+		return copy;
+	}
+
 	public static final String JAVA_VERSION_WARN_MSG = "EvoSuite does not support Java versions > 8 yet";
 
 	public static final int RECORD_INTERVAL = 5;
@@ -42,6 +42,7 @@ import org.evosuite.graphs.cfg.BytecodeInstructionPool;
 import org.evosuite.graphs.cfg.CFGMethodAdapter;
 import org.evosuite.instrumentation.InstrumentingClassLoader;
 import org.evosuite.instrumentation.LinePool;
+import org.evosuite.regression.ObjectDistanceCalculator;
 import org.evosuite.runtime.Runtime;
 import org.evosuite.runtime.classhandling.ModifiedTargetStaticFields;
 import org.evosuite.runtime.instrumentation.MethodCallReplacementCache;
@@ -62,7 +63,9 @@ import org.evosuite.testcarver.extraction.CarvingManager;
 import org.evosuite.testcase.execution.ExecutionTracer;
 import org.evosuite.testcase.execution.TestCaseExecutor;
 import org.evosuite.testcase.execution.reset.ClassReInitializer;
+import org.evosuite.testcase.synthesizer.LegitimateConstructionCache;
 import org.evosuite.utils.ArrayUtil;
+import org.evosuite.utils.generic.GenericClass;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -195,6 +198,9 @@ public class TestGenerationContext {
 		// DependencyAnalysis.analyse is called
 		TestCluster.reset();
 		CastClassManager.getInstance().clear();
+		GenericClass.clearCaches();
+		LegitimateConstructionCache.clear();
+		ObjectDistanceCalculator.clearCaches();
 		ConcreteClassAnalyzer.getInstance().clear();
 		// This counts the current level of recursion during test generation
 		org.evosuite.testcase.TestFactory.getInstance().reset();
@@ -157,10 +157,10 @@ public class SimpleMutationAssertionGenerator extends MutationAssertionGenerator
 		Randomness.shuffle(executedMutants);
 		logger.debug("Executed mutants: "+origResult.getTrace().getTouchedMutants());
 
+		Map<Integer, Double> infectionDistances = origResult.getTrace().getMutationDistances();
 		int numExecutedMutants = 0;
 		for (Mutation m : executedMutants) {
 
-			numExecutedMutants++;
 			if (! TimeController.getInstance().isThereStillTimeInThisPhase()) {
 				logger.info("Reached maximum time to generate assertions!");
 				break;
@@ -185,10 +185,6 @@ public class SimpleMutationAssertionGenerator extends MutationAssertionGenerator
 					continue;
 				}
 			}
-			if (Properties.MAX_MUTANTS_PER_TEST > 0
-			        && numExecutedMutants > Properties.MAX_MUTANTS_PER_TEST)
-				break;
-
 			/*
 			if (killed.contains(m.getId())) {
 				logger.info("Skipping dead mutant");
@@ -196,6 +192,21 @@ public class SimpleMutationAssertionGenerator extends MutationAssertionGenerator
 			}
 			*/
 
+			if (infectionDistances.containsKey(m.getId())
+			        && infectionDistances.get(m.getId()) > 0.0) {
+				// The mutant was reached but never infected the state, so
+				// running the test on it would give the same traces as on
+				// the original, and no assertion could kill it
+				logger.debug("Skipping mutant {} as it is not infected", m.getId());
+				continue;
+			}
+
+			// Only the mutants the test is actually run on count towards the limit
+			if (Properties.MAX_MUTANTS_PER_TEST > 0
+			        && numExecutedMutants >= Properties.MAX_MUTANTS_PER_TEST)
+				break;
+			numExecutedMutants++;
+
 			logger.debug("Running test on mutation {}",  m.getMutationName());
 			ExecutionResult mutantResult = runTest(test, m);
 
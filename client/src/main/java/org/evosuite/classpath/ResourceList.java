@@ -24,6 +24,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -32,6 +33,11 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -102,7 +108,8 @@ public class ResourceList {
 		}
 
 		/**
-		 * Keep track of all jars we opened.
+		 * Keep track of all jars we opened to read classes from. Jars are
+		 * not kept open just for building the cache.
 		 * Key -> the path of the jar file
 		 */
 		public Map<String,JarFile> openedJars = new LinkedHashMap<>();
@@ -144,6 +151,16 @@ public class ResourceList {
 	 */
 	private static Map<ClassLoader, ResourceList> instanceMap = new HashMap<ClassLoader, ResourceList>();
 
+	/**
+	 * Key -> absolute path, size and modification time of a jar file
+	 * <p>
+	 * Value -> the .class entries of that jar, in the order of the jar
+	 * <p>
+	 * Shared by all instances, as every new class loader (eg after each reset
+	 * of the test generation context) has its own cache to fill
+	 */
+	private static final Map<String, List<String>> jarIndex = new ConcurrentHashMap<>();
+
 	private final ClassLoader classLoader;
 
 	/** Private constructor */
@@ -499,11 +516,88 @@ public class ResourceList {
 				classLoader==TestGenerationContext.getInstance().getRegressionClassLoaderForSUT())
 			 cp = org.evosuite.Properties.REGRESSIONCP;
 
-		for(String entry : cp.split(File.pathSeparator)){
+		String[] entries = cp.split(File.pathSeparator);
+		indexJars(entries);
+		for(String entry : entries){
 			addEntry(entry);
 		}		
 	}
 
+	/**
+	 * Read the class entries of all the jars which have not been indexed yet
+	 * in parallel, as this dominates the time to build the cache when the
+	 * classpath has many jars. Entries are still added to the cache in
+	 * classpath order afterwards.
+	 */
+	private static void indexJars(String[] entries) {
+		List<File> jars = new ArrayList<>();
+		for(String entry : entries){
+			File file = new File(entry);
+			if(file.isFile() && file.getName().endsWith(".jar") && !jarIndex.containsKey(getJarKey(file))){
+				jars.add(file);
+			}
+		}
+
+		int numThreads = Math.min(jars.size(), Runtime.getRuntime().availableProcessors());
+		/*
+		 * With the sandbox on, new threads would need to be made privileged
+		 * to read files, and the SUT may trigger the cache initialization
+		 * through its class loader. In that case, jars are indexed one by one
+		 * when added to the cache
+		 */
+		if(numThreads < 2 || System.getSecurityManager() != null){
+			return;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+		try {
+			List<Future<List<String>>> futures = new ArrayList<>();
+			for(File jar : jars){
+				futures.add(executor.submit(() -> getJarClassFiles(jar)));
+			}
+			for(Future<List<String>> future : futures){
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					// reported when the jar is added to the cache
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static String getJarKey(File jar){
+		return jar.getAbsolutePath() + File.pathSeparator + jar.length() + File.pathSeparator + jar.lastModified();
+	}
+
+	/**
+	 * @return the names of the .class entries of the jar, from the index if possible
+	 */
+	private static List<String> getJarClassFiles(File jar) throws IOException {
+		String key = getJarKey(jar);
+		List<String> classFiles = jarIndex.get(key);
+		if(classFiles != null){
+			return classFiles;
+		}
+
+		classFiles = new ArrayList<>();
+		try(JarFile zf = new JarFile(jar)){
+			Enumeration<JarEntry> e = zf.entries();
+			while (e.hasMoreElements()) {
+				String entryName = e.nextElement().getName();
+				if(entryName.endsWith(".class")){
+					classFiles.add(entryName);
+				}
+			}
+		}
+		classFiles = Collections.unmodifiableList(classFiles);
+		jarIndex.put(key, classFiles);
+		return classFiles;
+	}
+
 	private void addEntry(String classPathElement) throws IllegalArgumentException{
 		final File file = new File(classPathElement);
 
@@ -587,17 +681,15 @@ public class ResourceList {
 	}
 
 	private void scanJar(String jarEntry) {
-		JarFile zf = getCache().getJar(jarEntry);
-
-		Enumeration<?> e = zf.entries();
-		while (e.hasMoreElements()) {
-			JarEntry ze = (JarEntry) e.nextElement();
-			String entryName = ze.getName();
-
-			if(! entryName.endsWith(".class")){
-				continue;
-			}
+		List<String> classFiles;
+		try {
+			classFiles = getJarClassFiles(new File(jarEntry));
+		} catch (IOException e) {
+			logger.error("Error while reading jar file "+jarEntry+": "+e.getMessage(),e);
+			return;
+		}
 
+		for (String entryName : classFiles) {
 			String className = getClassNameFromResourcePath(entryName);
 			
 			// The same class may exist in different classpath entries
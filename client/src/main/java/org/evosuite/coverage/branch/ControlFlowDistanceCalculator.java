@@ -216,16 +216,14 @@ public class ControlFlowDistanceCalculator {
 		r.setApproachLevel(branch.getInstruction().getActualCFG().getDiameter() + 1);
 
 		// Minimal distance between target node and path
-		for (MethodCall call : result.getTrace().getMethodCalls()) {
-			if (call.className.equals(className) && call.methodName.equals(methodName)) {
-				ControlFlowDistance d2;
-				Set<Branch> handled = new HashSet<Branch>();
-				//				result.intermediateDistances = new HashMap<Branch,ControlFlowDistance>();
-				d2 = getNonRootDistance(result, call, branch, value, className,
-				                        methodName, handled);
-				if (d2.compareTo(r) < 0) {
-					r = d2;
-				}
+		for (MethodCall call : result.getMethodCalls(className, methodName)) {
+			ControlFlowDistance d2;
+			Set<Branch> handled = new HashSet<Branch>();
+			//				result.intermediateDistances = new HashMap<Branch,ControlFlowDistance>();
+			d2 = getNonRootDistance(result, call, branch, value, className,
+			                        methodName, handled);
+			if (d2.compareTo(r) < 0) {
+				r = d2;
 			}
 		}
 
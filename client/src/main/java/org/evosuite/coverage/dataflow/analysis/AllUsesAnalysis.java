@@ -203,44 +203,63 @@ public class AllUsesAnalysis {
 	private Set<DefUseCoverageTestFitness> createIntraClassPairs() {
 		Set<DefUseCoverageTestFitness> r = new HashSet<DefUseCoverageTestFitness>();
 
+		Set<BytecodeInstruction> freeUses = new HashSet<BytecodeInstruction>();
 		for (String method : determinedFreeUses.keySet()) {
 			if (!ccfg.isPublicMethod(method)) {
 				continue;
 			}
-			for (BytecodeInstruction freeUse : determinedFreeUses.get(method))
-				r.addAll(createIntraClassPairsForFreeUse(freeUse));
+			freeUses.addAll(determinedFreeUses.get(method));
 		}
 
+		Map<String, Set<BytecodeInstruction>> activeDefsAtPublicExits = determineActiveDefsAtPublicExits();
+		for (BytecodeInstruction freeUse : freeUses)
+			r.addAll(createIntraClassPairsForFreeUse(freeUse, activeDefsAtPublicExits));
+
 		return r;
 	}
 
-	private Set<DefUseCoverageTestFitness> createIntraClassPairsForFreeUse(
-			BytecodeInstruction freeUse) {
-		checkFreeUseSanity(freeUse);
-
-		Set<DefUseCoverageTestFitness> r = new HashSet<DefUseCoverageTestFitness>();
+	/**
+	 * Summarizes determinedActiveDefs of all public methods by variable: for
+	 * intra-class pairs it only matters which definitions of a variable can
+	 * be active after some public method returns, not in which combination
+	 * with the definitions of other variables
+	 */
+	private Map<String, Set<BytecodeInstruction>> determineActiveDefsAtPublicExits() {
+		Map<String, Set<BytecodeInstruction>> r = new HashMap<String, Set<BytecodeInstruction>>();
 		for (String method : determinedActiveDefs.keySet()) {
 			if (!ccfg.isPublicMethod(method)) {
 				continue;
 			}
-			Set<Map<String, BytecodeInstruction>> activeDefss = determinedActiveDefs
-					.get(method);
-			for (Map<String, BytecodeInstruction> activeDefs : activeDefss) {
-				// checkActiveDefsSanity(activeDefs);
-				// if (activeDefs.get(freeUse.getDUVariableName()) == null)
-				// continue;
-
-				BytecodeInstruction activeDef = activeDefs.get(freeUse
-						.getVariableName());
-				if (activeDef == null)
-					continue;
-				addNewGoalToFoundPairs(null, activeDef, freeUse,
-						DefUsePairType.INTRA_CLASS, r);
+			for (Map<String, BytecodeInstruction> activeDefs : determinedActiveDefs.get(method)) {
+				for (Map.Entry<String, BytecodeInstruction> activeDef : activeDefs.entrySet()) {
+					Set<BytecodeInstruction> defs = r.get(activeDef.getKey());
+					if (defs == null) {
+						defs = new HashSet<BytecodeInstruction>();
+						r.put(activeDef.getKey(), defs);
+					}
+					defs.add(activeDef.getValue());
+				}
 			}
 		}
 		return r;
 	}
 
+	private Set<DefUseCoverageTestFitness> createIntraClassPairsForFreeUse(
+			BytecodeInstruction freeUse,
+			Map<String, Set<BytecodeInstruction>> activeDefsAtPublicExits) {
+		checkFreeUseSanity(freeUse);
+
+		Set<DefUseCoverageTestFitness> r = new HashSet<DefUseCoverageTestFitness>();
+		Set<BytecodeInstruction> activeDefs = activeDefsAtPublicExits.get(freeUse
+				.getVariableName());
+		if (activeDefs == null)
+			return r;
+		for (BytecodeInstruction activeDef : activeDefs)
+			addNewGoalToFoundPairs(null, activeDef, freeUse,
+					DefUsePairType.INTRA_CLASS, r);
+		return r;
+	}
+
 	// intra- and inter-method pair search
 
 	private Set<DefUseCoverageTestFitness> determineIntraInterMethodPairs(
@@ -752,41 +771,26 @@ public class AllUsesAnalysis {
 		// represents one possible configuration of activeDefs i will have to
 		// mingle each of these maps with each of the currently active maps
 		for (Map<String, BytecodeInstruction> activeDefMapInCallee : activeDefMapsInCallee) {
-			for (Map<String, VariableDefinition> activeDefMapInCaller : activeDefMapsInCaller) {
-				Set<String> relevantVariables = new HashSet<String>(
-						activeDefMapInCallee.keySet());
-				relevantVariables.addAll(activeDefMapInCaller.keySet());
+			// variables overwritten in the call get a new VariableDefinition,
+			// which is the same for every activeDefMap of the caller
+			Map<String, VariableDefinition> overwritingDefinitions = new HashMap<String, VariableDefinition>();
+			for (Map.Entry<String, BytecodeInstruction> activeDefAfterCall : activeDefMapInCallee
+					.entrySet()) {
+				if (activeDefAfterCall.getValue() == null)
+					throw new IllegalStateException(
+							"expect activeDefMaps not to map to null values");
+				overwritingDefinitions.put(activeDefAfterCall.getKey(),
+						new VariableDefinition(activeDefAfterCall.getValue(), call));
+			}
 
+			for (Map<String, VariableDefinition> activeDefMapInCaller : activeDefMapsInCaller) {
 				// mingle both activeDefMaps from prior to the call and when
 				// returning from call to a new one that will be true after the
-				// call
-				Map<String, VariableDefinition> activeDefMapAfterCurrentCall = new HashMap<String, VariableDefinition>();
-				for (String variable : relevantVariables) {
-					BytecodeInstruction activeDefAfterCall = activeDefMapInCallee
-							.get(variable);
-					VariableDefinition activeDefPriorToCall = activeDefMapInCaller
-							.get(variable);
-
-					if (activeDefAfterCall == null) {
-						if (activeDefPriorToCall == null)
-							throw new IllegalStateException(
-									"expect activeDefMaps not to map to null values");
-
-						// variable was not overwritten in called
-						// method, so the activeDef prior to the call stays
-						// active
-						activeDefMapAfterCurrentCall.put(variable,
-								activeDefPriorToCall);
-					} else {
-						// variable was overwritten in call, so we will make a
-						// new VariableDefinition and keep that active in the
-						// newly created map
-						VariableDefinition overwritingDefinition = new VariableDefinition(
-								activeDefAfterCall, call);
-						activeDefMapAfterCurrentCall.put(variable,
-								overwritingDefinition);
-					}
-				}
+				// call: variables not overwritten in the called method keep
+				// the activeDef prior to the call
+				Map<String, VariableDefinition> activeDefMapAfterCurrentCall = new HashMap<String, VariableDefinition>(
+						activeDefMapInCaller);
+				activeDefMapAfterCurrentCall.putAll(overwritingDefinitions);
 
 				// System.out.println("mingled map:");
 				// printVDDefMap(activeDefMapAfterCurrentCall);
@@ -0,0 +1,50 @@
+package org.evosuite.ga;
+
+import java.util.List;
+
+/**
+ * Novelty function where the behaviour of an individual is a vector of fixed
+ * length, such that it only has to be extracted once per individual rather
+ * than once per comparison.
+ */
+public abstract class BehaviourNoveltyFunction<T extends Chromosome> extends NoveltyFunction<T> {
+
+    /**
+     * @param individual
+     * @return the behaviour vector of the individual
+     */
+    public abstract double[] getBehaviour(T individual);
+
+    /**
+     * @param behaviour1
+     * @param behaviour2
+     * @return the distance between two behaviour vectors
+     */
+    public abstract double getDistance(double[] behaviour1, double[] behaviour2);
+
+    @Override
+    public double getDistance(T individual1, T individual2) {
+        return getDistance(getBehaviour(individual1), getBehaviour(individual2));
+    }
+
+    @Override
+    protected double[][] getDistances(List<T> population) {
+        int size = population.size();
+        double[][] behaviours = new double[size][];
+        for (int i = 0; i < size; i++) {
+            behaviours[i] = getBehaviour(population.get(i));
+        }
+
+        double[][] distances = new double[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                if (population.get(i) == population.get(j))
+                    continue;
+                double d = getDistance(behaviours[i], behaviours[j]);
+                distances[i][j] = d;
+                distances[j][i] = d;
+            }
+        }
+        return distances;
+    }
+}
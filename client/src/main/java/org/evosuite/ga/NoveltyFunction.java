@@ -1,6 +1,8 @@
 package org.evosuite.ga;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 public abstract class NoveltyFunction<T extends Chromosome> {
 
@@ -21,4 +23,70 @@ public abstract class NoveltyFunction<T extends Chromosome> {
 
         return distance;
     }
+
+    /**
+     * Computes the novelty of every individual of the population, i.e., the
+     * average distance to its nearest neighbours.
+     *
+     * @param population
+     * @param neighbours
+     *            number of nearest neighbours to consider, 0 for all other
+     *            individuals
+     * @return the novelty of each individual, in population order
+     */
+    public double[] getNovelty(List<T> population, int neighbours) {
+        int size = population.size();
+        double[] novelty = new double[size];
+        double[][] distances = getDistances(population);
+
+        boolean allNeighbours = neighbours <= 0 || neighbours >= size - 1;
+        double[] candidates = new double[size];
+        for (int i = 0; i < size; i++) {
+            if (allNeighbours) {
+                double distance = 0.0;
+                for (int j = 0; j < size; j++) {
+                    if (population.get(i) != population.get(j))
+                        distance += distances[i][j];
+                }
+                novelty[i] = distance / (size - 1);
+            } else {
+                int numCandidates = 0;
+                for (int j = 0; j < size; j++) {
+                    if (population.get(i) != population.get(j))
+                        candidates[numCandidates++] = distances[i][j];
+                }
+                int k = Math.min(neighbours, numCandidates);
+                Arrays.sort(candidates, 0, numCandidates);
+                double distance = 0.0;
+                for (int j = 0; j < k; j++) {
+                    distance += candidates[j];
+                }
+                novelty[i] = k == 0 ? 0.0 : distance / k;
+            }
+        }
+
+        return novelty;
+    }
+
+    /**
+     * Computes the distance between every pair of individuals. The distance is
+     * symmetric, thus each pair is only compared once.
+     *
+     * @param population
+     * @return the matrix of distances, in population order
+     */
+    protected double[][] getDistances(List<T> population) {
+        int size = population.size();
+        double[][] distances = new double[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                if (population.get(i) == population.get(j))
+                    continue;
+                double d = getDistance(population.get(i), population.get(j));
+                distances[i][j] = d;
+                distances[j][i] = d;
+            }
+        }
+        return distances;
+    }
 }
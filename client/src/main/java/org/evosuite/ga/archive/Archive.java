@@ -153,6 +153,25 @@ public abstract class Archive<F extends TestFitnessFunction, T extends TestChrom
     }
   }
 
+  /**
+   * Returns the chromosome to keep in the archive for the given solution. Unless
+   * {@link Properties#ARCHIVE_KEEP_EXECUTION_RESULTS} is set, this is a copy without cached
+   * execution results, so that the archive does not keep the execution traces of all its solutions
+   * alive. Fitness functions execute the copy again when its result is needed.
+   * 
+   * @param solution
+   * @return
+   */
+  @SuppressWarnings("unchecked")
+  protected T toArchivedSolution(T solution) {
+    if (Properties.ARCHIVE_KEEP_EXECUTION_RESULTS) {
+      return solution;
+    }
+    T copy = (T) solution.clone();
+    copy.clearCachedResults();
+    return copy;
+  }
+
   /**
    * Checks whether a candidate solution is better than an existing one.
    * 
@@ -113,7 +113,7 @@ public class CoverageArchive<F extends TestFitnessFunction, T extends TestChromo
 
   private void addToArchive(F target, T solution) {
     this.uncovered.remove(target);
-    this.covered.put(target, solution);
+    this.covered.put(target, this.toArchivedSolution(solution));
     this.removeNonCoveredTargetOfAMethod(target);
     this.hasBeenUpdated = true;
 
@@ -216,45 +216,39 @@ public class MIOArchive<F extends TestFitnessFunction, T extends TestChromosome>
     // one of the covered targets at random. Thereafter, choose one solution randomly from the list
     // of solutions of the chosen target.
 
-    List<F> targetsWithSolutions = this.archive.keySet().stream()
-        .filter(target -> this.archive.get(target).numSolutions() > 0).collect(Collectors.toList());
-
-    if (targetsWithSolutions.isEmpty()) {
-      // there is not at least one target with at least one solution
-      return null;
-    }
-
-    List<F> potentialTargets = targetsWithSolutions.stream()
-        .filter(target -> this.archive.get(target).isCovered() == false).collect(Collectors.toList());
-
-    if (potentialTargets.isEmpty()) {
-      potentialTargets =
-          targetsWithSolutions.stream().filter(target -> this.archive.get(target).isCovered() == true)
-              .collect(Collectors.toList());
-    }
-    assert !potentialTargets.isEmpty();
-
     // Instead of choosing a target at random, we choose the one with the lowest counter value.
     // (See Section 3.3 of the paper that describes this archive for more details)
 
     // F target = Randomness.choice(potentialTargets);
     // T randomSolution = (T) this.archive.get(target).sampleSolution();
 
-    // ASC sort, i.e., from the population with the lowest counter to the population with the
-    // highest counter
-    potentialTargets.sort(new Comparator<F>() {
-      @Override
-      public int compare(F f0, F f1) {
-        if (archive.get(f0).counter() < archive.get(f1).counter()) {
-          return -1;
-        } else if (archive.get(f0).counter() > archive.get(f1).counter()) {
-          return 1;
+    // A single pass over the populations keeps, for non-covered and for covered targets, the first
+    // population with the lowest counter, i.e., the same one a stable ASC sort by counter of the
+    // candidate targets would put first
+    Population bestNonCovered = null;
+    Population bestCovered = null;
+    for (Population population : this.archive.values()) {
+      if (population.numSolutions() == 0) {
+        continue;
+      }
+      if (!population.isCovered()) {
+        if (bestNonCovered == null || population.counter() < bestNonCovered.counter()) {
+          bestNonCovered = population;
+        }
+      } else {
+        if (bestCovered == null || population.counter() < bestCovered.counter()) {
+          bestCovered = population;
         }
-        return 0;
       }
-    });
+    }
+
+    Population chosen = bestNonCovered != null ? bestNonCovered : bestCovered;
+    if (chosen == null) {
+      // there is not at least one target with at least one solution
+      return null;
+    }
 
-    T randomSolution = this.archive.get(potentialTargets.get(0)).sampleSolution();
+    T randomSolution = chosen.sampleSolution();
     return randomSolution == null ? null : (T) randomSolution.clone();
   }
 
@@ -430,7 +424,7 @@ public class MIOArchive<F extends TestFitnessFunction, T extends TestChromosome>
 
           if (isPairBetterThanCurrent(currentSolution, candidateSolution)) {
             added = true;
-            this.solutions.set(0, candidateSolution);
+            this.solutions.set(0, toArchivedPair(candidateSolution));
           }
         } else {
           // as the target is now fully covered by the candidate solution T, from now on there is no
@@ -439,7 +433,7 @@ public class MIOArchive<F extends TestFitnessFunction, T extends TestChromosome>
           added = true;
           this.capacity = 1;
           this.solutions.clear();
-          this.solutions.add(candidateSolution);
+          this.solutions.add(toArchivedPair(candidateSolution));
         }
       } else {
         // no, candidate solution T does not fully cover the target.
@@ -450,7 +444,7 @@ public class MIOArchive<F extends TestFitnessFunction, T extends TestChromosome>
 
           // as an optimisation, in here we could check whether candidateSolution is an existing
           // solution, however it could be quite expensive to do it and most likely not worth it
-          this.solutions.add(candidateSolution);
+          this.solutions.add(toArchivedPair(candidateSolution));
           this.sortPairSolutions(); // keep solutions sorted from the best to the worse
         } else {
           // no, there is not. so, replace the worst one, if candidate is better.
@@ -458,7 +452,7 @@ public class MIOArchive<F extends TestFitnessFunction, T extends TestChromosome>
           Pair<Double, T> worstSolution = this.solutions.get(this.capacity - 1);
 
           if (isPairBetterThanCurrent(worstSolution, candidateSolution)) {
-            this.solutions.set(this.capacity - 1, candidateSolution);
+            this.solutions.set(this.capacity - 1, toArchivedPair(candidateSolution));
           }
         }
       }
@@ -474,6 +468,11 @@ public class MIOArchive<F extends TestFitnessFunction, T extends TestChromosome>
       return added;
     }
 
+    private Pair<Double, T> toArchivedPair(Pair<Double, T> solution) {
+      return new ImmutablePair<Double, T>(solution.getLeft(),
+          toArchivedSolution(solution.getRight()));
+    }
+
     /**
      * 
      * @param currentSolution
@@ -559,12 +558,7 @@ public class MIOArchive<F extends TestFitnessFunction, T extends TestChromosome>
         return;
       }
 
-      List<Pair<Double, T>> shrinkSolutions = new ArrayList<Pair<Double, T>>(newPopulationSize);
-      for (int i = 0; i < newPopulationSize; i++) {
-        shrinkSolutions.add(this.solutions.get(i));
-      }
-      this.solutions.clear();
-      this.solutions.addAll(shrinkSolutions);
+      this.solutions.subList(newPopulationSize, this.solutions.size()).clear();
     }
 
     /**
@@ -117,6 +117,9 @@ public abstract class GeneticAlgorithm<T extends Chromosome> implements SearchAl
 	/** Selected ranking strategy **/
 	protected RankingFunction<T> rankingFunction = new RankBasedPreferenceSorting<>();
 
+	/** Exchange of individuals with other clients, for parallel runs */
+	protected IslandMigration<T> migration = new IslandMigration<>();
+
 //	protected transient Archive<T> archive = null;
 	
 	private List<Double> progressInformation = new ArrayList<>();
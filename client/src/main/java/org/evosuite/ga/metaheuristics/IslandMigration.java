@@ -0,0 +1,188 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.evosuite.Properties;
+import org.evosuite.ga.Chromosome;
+import org.evosuite.ga.operators.selection.BestKSelection;
+import org.evosuite.ga.operators.selection.RandomKSelection;
+import org.evosuite.ga.operators.selection.RankSelection;
+import org.evosuite.ga.operators.selection.SelectionFunction;
+import org.evosuite.rmi.ClientServices;
+import org.evosuite.testcase.ExecutableChromosome;
+import org.evosuite.testsuite.AbstractTestSuiteChromosome;
+import org.evosuite.utils.Listener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Island model for parallel runs (see {@link Properties#NUM_PARALLEL_CLIENTS}):
+ * every client is an island that periodically sends some of its individuals to
+ * the master, which forwards them to other islands according to
+ * {@link Properties#MIGRATION_TOPOLOGY}. Immigrants are queued as they arrive
+ * and integrated by the search algorithm at its own pace.
+ * 
+ * @param <T>
+ */
+public class IslandMigration<T extends Chromosome> implements Serializable {
+
+	private static final long serialVersionUID = -3829106446432176329L;
+
+	private static final Logger logger = LoggerFactory.getLogger(IslandMigration.class);
+
+	/** immigrant groups from neighbouring clients */
+	private final ConcurrentLinkedQueue<List<T>> immigrants = new ConcurrentLinkedQueue<>();
+
+	private final SelectionFunction<T> emigrantsSelection;
+
+	private transient Listener<Set<? extends Chromosome>> listener = null;
+
+	public IslandMigration() {
+		switch (Properties.EMIGRANT_SELECTION_FUNCTION) {
+			case RANK:
+				this.emigrantsSelection = new RankSelection<>();
+				break;
+			case RANDOMK:
+				this.emigrantsSelection = new RandomKSelection<>();
+				break;
+			default:
+				this.emigrantsSelection = new BestKSelection<>();
+		}
+	}
+
+	public static boolean isEnabled() {
+		return Properties.NUM_PARALLEL_CLIENTS > 1;
+	}
+
+	/**
+	 * Starts receiving immigrants from the other clients
+	 */
+	@SuppressWarnings("unchecked")
+	public void start() {
+		if (!isEnabled() || this.listener != null) {
+			return;
+		}
+		this.listener = new Listener<Set<? extends Chromosome>>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public void receiveEvent(Set<? extends Chromosome> event) {
+				immigrants.add(new LinkedList<T>((Set<? extends T>) event));
+			}
+		};
+		ClientServices.getInstance().getClientNode().addListener(this.listener);
+	}
+
+	/**
+	 * Stops receiving immigrants from the other clients
+	 */
+	public void stop() {
+		if (this.listener == null) {
+			return;
+		}
+		ClientServices.getInstance().getClientNode().deleteListener(this.listener);
+		this.listener = null;
+	}
+
+	/**
+	 * Immigrants arrive without execution results and fitness values (see
+	 * {@link #toEmigrant(Chromosome)}), thus they have to be evaluated before
+	 * they can compete with the local population. Evaluating them also updates
+	 * the local archive with the goals they cover.
+	 * 
+	 * @return the oldest group of immigrants not integrated yet, or an empty
+	 *         list if there is none
+	 */
+	public List<T> pollImmigrants() {
+		List<T> group = this.immigrants.poll();
+		if (group == null) {
+			return Collections.emptyList();
+		}
+		logger.debug("Integrating " + group.size() + " immigrants");
+		return group;
+	}
+
+	/**
+	 * Sends some individuals of the population to the other clients every
+	 * {@link Properties#MIGRANTS_ITERATION_FREQUENCY} iterations.
+	 * 
+	 * @param population
+	 *            the individuals to select the emigrants from
+	 * @param iteration
+	 *            the current iteration of the search
+	 */
+	public void emigrate(List<T> population, int iteration) {
+		if (!isEnabled() || Properties.MIGRANTS_ITERATION_FREQUENCY <= 0) {
+			return;
+		}
+		if ((iteration + 1) % Properties.MIGRANTS_ITERATION_FREQUENCY != 0 || population.isEmpty()) {
+			return;
+		}
+
+		Set<T> emigrants = new HashSet<>();
+		for (T individual : this.emigrantsSelection.select(population, Properties.MIGRANTS_COMMUNICATION_RATE)) {
+			emigrants.add(this.toEmigrant(individual));
+		}
+		ClientServices.getInstance().getClientNode().emigrate(emigrants);
+	}
+
+	/**
+	 * Execution results are by far the largest part of a serialized
+	 * individual, and the receiving client executes the individual again
+	 * anyway. Thus, emigrants only carry their tests.
+	 * 
+	 * Fitness values are dropped as well: they are keyed by the fitness
+	 * function instances of the sending client, which are not equal to the
+	 * ones of the receiving client. Evaluating an immigrant would otherwise
+	 * add a second value for each fitness function, and
+	 * {@link Chromosome#getFitness()} would sum both of them.
+	 */
+	@SuppressWarnings("unchecked")
+	T toEmigrant(T individual) {
+		T emigrant = (T) individual.clone();
+		clearFitness(emigrant);
+		if (emigrant instanceof ExecutableChromosome) {
+			((ExecutableChromosome) emigrant).clearCachedResults();
+		} else if (emigrant instanceof AbstractTestSuiteChromosome) {
+			for (ExecutableChromosome test : ((AbstractTestSuiteChromosome<?>) emigrant).getTestChromosomes()) {
+				test.clearCachedResults();
+				clearFitness(test);
+			}
+		}
+		return emigrant;
+	}
+
+	private static void clearFitness(Chromosome chromosome) {
+		chromosome.getFitnessValues().clear();
+		chromosome.getPreviousFitnessValues().clear();
+		chromosome.getCoverageValues().clear();
+		chromosome.getNumsOfCoveredGoals().clear();
+		chromosome.getNumsNotCoveredGoals().clear();
+		chromosome.setChanged(true);
+	}
+}
@@ -110,6 +110,12 @@ public class MIO<T extends Chromosome> extends AbstractMOSA<T> {
     // evaluate it
     this.calculateFitness((T) this.solution);
 
+    // for parallel runs: immigrants only have to be evaluated, as that updates the archive with
+    // the targets they cover
+    for (T immigrant : this.migration.pollImmigrants()) {
+      this.calculateFitness(immigrant);
+    }
+
     double usedBudget = this.progress();
     if (Double.compare(usedBudget, Properties.EXPLOITATION_STARTS_AT_PERCENT) >= 0) {
       // focused search has started
@@ -130,6 +136,12 @@ public class MIO<T extends Chromosome> extends AbstractMOSA<T> {
     assert this.n >= 1;
     Archive.getArchiveInstance().shrinkSolutions(this.n);
 
+    // for parallel runs: MIO has no population, emigrants are thus sampled from the archive
+    if (IslandMigration.isEnabled()) {
+      this.migration.emigrate(new ArrayList<T>((Set<T>) Archive.getArchiveInstance().getSolutions()),
+          this.currentIteration);
+    }
+
     this.currentIteration++;
   }
 
@@ -171,6 +183,7 @@ public class MIO<T extends Chromosome> extends AbstractMOSA<T> {
     }
 
     logger.debug("Starting evolution");
+    this.migration.start();
     while (!this.isFinished()) {
       this.evolve();
 
@@ -197,6 +210,7 @@ public class MIO<T extends Chromosome> extends AbstractMOSA<T> {
       logger.info("Current iteration: " + currentIteration);
       this.notifyIteration();
     }
+    this.migration.stop();
 
     TimeController.execute(this::updateBestIndividualFromArchive, "Update from archive", 5_000);
     this.notifySearchFinished();
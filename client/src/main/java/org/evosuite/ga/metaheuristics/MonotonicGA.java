@@ -118,10 +118,19 @@ public class MonotonicGA<T extends Chromosome> extends GeneticAlgorithm<T> imple
 			RandomLengthTestFactory.workingBranch4ObjectGraph = Randomness.choice(uncoveredGoals).getBranch();
 		}
 		
+		// for parallel runs: the population is still sorted, send its best individuals
+		migration.emigrate(population, currentIteration);
+
 		// Elitism
 		logger.debug("Elitism");
 		newGeneration.addAll(elitism());
 
+		// for parallel runs: integrate possible immigrants
+		for (T immigrant : migration.pollImmigrants()) {
+			calculateFitness(immigrant);
+			newGeneration.add(immigrant);
+		}
+
 		// Add random elements
 		// new_generation.addAll(randomism());
 
@@ -320,6 +329,7 @@ public class MonotonicGA<T extends Chromosome> extends GeneticAlgorithm<T> imple
 		Map<Integer, Integer> distributionMap = DistributionUtil.constructDistributionMap(branchGoals);
 		updateDistribution(distributionMap, true);
 
+		migration.start();
 		while (!isFinished()) {
 
 			
@@ -464,6 +474,8 @@ public class MonotonicGA<T extends Chromosome> extends GeneticAlgorithm<T> imple
 		this.setAvailableCalls(getAvailableCalls());
 		this.setUnavailableCalls(getUnavailableCalls());
 		
+		migration.stop();
+
 		// archive
 		TimeController.execute(this::updateBestIndividualFromArchive, "update from archive", 5_000);
 
@@ -812,6 +824,7 @@ public class MonotonicGA<T extends Chromosome> extends GeneticAlgorithm<T> imple
 		Map<Integer, Integer> distributionMap = DistributionUtil.constructDistributionMap(branchGoals);
 		updateDistribution(distributionMap, true);
 
+		migration.start();
 		while (!isFinished()) {
 
 			logger.info("Population size before: " + population.size());
@@ -942,6 +955,8 @@ public class MonotonicGA<T extends Chromosome> extends GeneticAlgorithm<T> imple
 		this.setAvailableCalls(getAvailableCalls());
 		this.setUnavailableCalls(getUnavailableCalls());
 
+		migration.stop();
+
 		// archive
 		TimeController.execute(this::updateBestIndividualFromArchive, "update from archive", 5_000);
 
@@ -45,19 +45,16 @@ public class NoveltySearch<T extends Chromosome> extends GeneticAlgorithm<T>  {
     protected void calculateNoveltyAndSortPopulation() {
         logger.debug("Calculating novelty for " + population.size() + " individuals");
 
-        Iterator<T> iterator = population.iterator();
-        Map<T, Double> noveltyMap = new LinkedHashMap<>();
+        if (isFinished()) {
+            population.removeIf(Chromosome::isChanged);
+            return;
+        }
 
-        while (iterator.hasNext()) {
-            T c = iterator.next();
-            if (isFinished()) {
-                if (c.isChanged())
-                    iterator.remove();
-            } else {
-                // TODO: This needs to take the archive into account
-                double novelty = noveltyFunction.getNovelty(c, population);
-                noveltyMap.put(c, novelty);
-            }
+        // TODO: This needs to take the archive into account
+        double[] novelty = noveltyFunction.getNovelty(population, Properties.NOVELTY_NEIGHBOURS);
+        Map<T, Double> noveltyMap = new LinkedHashMap<>();
+        for (int i = 0; i < population.size(); i++) {
+            noveltyMap.put(population.get(i), novelty[i]);
         }
 
         // Sort population
@@ -57,8 +57,14 @@ public class StandardGA<T extends Chromosome> extends GeneticAlgorithm<T> {
 
 		List<T> newGeneration = new ArrayList<T>();
 
+		// for parallel runs: the population is still sorted, send its best individuals
+		migration.emigrate(population, currentIteration);
+
 		// Elitism
 		newGeneration.addAll(elitism());
+
+		// for parallel runs: immigrants are evaluated with the rest of the new generation
+		newGeneration.addAll(migration.pollImmigrants());
 		
 		// new_generation.size() < population_size
 		while (!isNextPopulationFull(newGeneration)) {
@@ -140,6 +146,7 @@ public class StandardGA<T extends Chromosome> extends GeneticAlgorithm<T> {
 			lastBestFitness = 0.0;
 		} 
 		
+		migration.start();
 		while (!isFinished()) {
 			logger.debug("Current population: " + getAge() + "/" + Properties.SEARCH_BUDGET);
 			logger.info("Best fitness: " + getBestIndividual().getFitness());
@@ -173,6 +180,7 @@ public class StandardGA<T extends Chromosome> extends GeneticAlgorithm<T> {
 			
 			this.notifyIteration();
 		}
+		migration.stop();
 		
 		updateBestIndividualFromArchive();
 		notifySearchFinished();
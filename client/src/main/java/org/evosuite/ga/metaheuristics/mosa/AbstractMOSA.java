@@ -260,8 +260,10 @@ public abstract class AbstractMOSA<T extends Chromosome> extends GeneticAlgorith
 				this.clearCachedResults(offspring1);
 				this.calculateFitness(offspring1);
 
-				BranchCoveringEvent e = EventSequence.deriveCoveredBranch(offspring1, parent1, uncoveredGoals);
-				EventSequence.addEvent(e);
+				if (EventSequence.isEnabled()) {
+					BranchCoveringEvent e = EventSequence.deriveCoveredBranch(offspring1, parent1, uncoveredGoals);
+					EventSequence.addEvent(e);
+				}
 
 //				BranchDynamicAnalyzer.analyzeBranch(offspring1, parent1, uncoveredGoals);
 
@@ -278,8 +280,10 @@ public abstract class AbstractMOSA<T extends Chromosome> extends GeneticAlgorith
 				this.clearCachedResults(offspring2);
 				this.calculateFitness(offspring2);
 
-				BranchCoveringEvent e = EventSequence.deriveCoveredBranch(offspring2, parent2, uncoveredGoals);
-				EventSequence.addEvent(e);
+				if (EventSequence.isEnabled()) {
+					BranchCoveringEvent e = EventSequence.deriveCoveredBranch(offspring2, parent2, uncoveredGoals);
+					EventSequence.addEvent(e);
+				}
 
 				new MutationPositionDiscriminator().identifyRelevantMutations(offspring2, parent2);
 				offspringPopulation.add(offspring2);
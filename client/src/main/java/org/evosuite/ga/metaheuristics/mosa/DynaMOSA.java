@@ -86,6 +86,12 @@ public class DynaMOSA<T extends Chromosome> extends AbstractMOSA<T> {
 		union.addAll(this.population);
 		union.addAll(offspringPopulation);
 
+		// for parallel runs: integrate possible immigrants
+		for (T immigrant : this.migration.pollImmigrants()) {
+			this.calculateFitness(immigrant);
+			union.add(immigrant);
+		}
+
 		// Ranking the union
 		logger.debug("Union Size = {}", union.size());
 
@@ -186,6 +192,9 @@ public class DynaMOSA<T extends Chromosome> extends AbstractMOSA<T> {
 		 */
 		checkBestFitness();
 
+		// for parallel runs: send some individuals to other clients
+		this.migration.emigrate(this.population, this.currentIteration);
+
 		this.currentIteration++;
 		// logger.debug("N. fronts = {}", ranking.getNumberOfSubfronts());
 		// logger.debug("1* front size = {}", ranking.getSubfront(0).size());
@@ -251,6 +260,7 @@ public class DynaMOSA<T extends Chromosome> extends AbstractMOSA<T> {
 
 		// next generations
 		TestCaseLegitimizer.startTime = System.currentTimeMillis();
+		this.migration.start();
 		while (!isFinished() && this.goalsManager.getUncoveredGoals().size() > 0) {
 			MutationPositionDiscriminator.discriminator.setPurpose(this.goalsManager.getCurrentGoals());
 
@@ -264,6 +274,7 @@ public class DynaMOSA<T extends Chromosome> extends AbstractMOSA<T> {
 			t2 = System.currentTimeMillis();
 			this.notifyIteration();
 		}
+		this.migration.stop();
 		
 		logger.warn("legitimizationSuccess: " + RandomLengthTestFactory.legitimizationSuccess);
 		logger.warn("legitimizationTrials: " + RandomLengthTestFactory.legitimizationTrials);
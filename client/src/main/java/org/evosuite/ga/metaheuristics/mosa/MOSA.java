@@ -22,10 +22,8 @@ package org.evosuite.ga.metaheuristics.mosa;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.evosuite.ClientProcess;
 import org.evosuite.Properties;
@@ -34,14 +32,9 @@ import org.evosuite.ga.ChromosomeFactory;
 import org.evosuite.ga.FitnessFunction;
 import org.evosuite.ga.comparators.OnlyCrowdingComparator;
 import org.evosuite.ga.operators.ranking.CrowdingDistance;
-import org.evosuite.ga.operators.selection.BestKSelection;
-import org.evosuite.ga.operators.selection.RandomKSelection;
-import org.evosuite.ga.operators.selection.RankSelection;
-import org.evosuite.ga.operators.selection.SelectionFunction;
 import org.evosuite.rmi.ClientServices;
 import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.testcase.synthesizer.TestCaseLegitimizer;
-import org.evosuite.utils.Listener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,11 +50,6 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 
 	private static final Logger logger = LoggerFactory.getLogger(MOSA.class);
 
-	/** immigrant groups from neighbouring client */
-	private ConcurrentLinkedQueue<List<T>> immigrants = new ConcurrentLinkedQueue<>();
-
-	private SelectionFunction<T> emigrantsSelection;
-
 	/** Crowding distance measure to use */
 	protected CrowdingDistance<T> distance = new CrowdingDistance<T>();
 
@@ -71,17 +59,6 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 	 */
 	public MOSA(ChromosomeFactory<T> factory) {
 		super(factory);
-
-		switch (Properties.EMIGRANT_SELECTION_FUNCTION) {
-			case RANK:
-				this.emigrantsSelection = new RankSelection<>();
-				break;
-			case RANDOMK:
-				this.emigrantsSelection = new RandomKSelection<>();
-				break;
-			default:
-				this.emigrantsSelection = new BestKSelection<>();
-		}
 	}
 
 	/**
@@ -97,8 +74,9 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 		union.addAll(offspringPopulation);
 
 		// for parallel runs: integrate possible immigrants
-		if (Properties.NUM_PARALLEL_CLIENTS > 1 && !immigrants.isEmpty()) {
-			union.addAll(immigrants.poll());
+		for (T immigrant : this.migration.pollImmigrants()) {
+			this.calculateFitness(immigrant);
+			union.add(immigrant);
 		}
 
 		Set<FitnessFunction<T>> uncoveredGoals = this.getUncoveredGoals();
@@ -144,12 +122,7 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 		}
 
 		// for parallel runs: collect best k individuals for migration
-		if (Properties.NUM_PARALLEL_CLIENTS > 1 && Properties.MIGRANTS_ITERATION_FREQUENCY > 0) {
-			if ((currentIteration + 1) % Properties.MIGRANTS_ITERATION_FREQUENCY == 0 && !this.population.isEmpty()) {
-				HashSet<T> emigrants = new HashSet<>(emigrantsSelection.select(this.population, Properties.MIGRANTS_COMMUNICATION_RATE));
-				ClientServices.getInstance().getClientNode().emigrate(emigrants);
-			}
-		}
+		this.migration.emigrate(this.population, this.currentIteration);
 
 		this.currentIteration++;
 	}
@@ -182,16 +155,7 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 			this.distance.fastEpsilonDominanceAssignment(this.rankingFunction.getSubfront(i), this.getUncoveredGoals());
 		}
 
-		Listener<Set<? extends Chromosome>> listener = null;
-		if (Properties.NUM_PARALLEL_CLIENTS > 1) {
-			listener = new Listener<Set<? extends Chromosome>>() {
-				@Override
-				public void receiveEvent(Set<? extends Chromosome> event) {
-					immigrants.add(new LinkedList<T>((Set<? extends T>) event));
-				}
-			};
-			ClientServices.getInstance().getClientNode().addListener(listener);
-		}
+		this.migration.start();
 
 		// TODO add here dynamic stopping condition
 		while (!this.isFinished() && this.getNumberOfUncoveredGoals() > 0) {
@@ -200,7 +164,7 @@ public class MOSA<T extends Chromosome> extends AbstractMOSA<T> {
 		}
 
 		if (Properties.NUM_PARALLEL_CLIENTS > 1) {
-			ClientServices.getInstance().getClientNode().deleteListener(listener);
+			this.migration.stop();
 
 			if (ClientProcess.DEFAULT_CLIENT_NAME.equals(ClientProcess.getIdentifier())) {
 				//collect all end result test cases
@@ -106,6 +106,15 @@ public class GraphPool {
 	 */
 	private final Map<String, Map<String, ControlDependenceGraph>> controlDependencies = new HashMap<String, Map<String, ControlDependenceGraph>>();
 
+	/**
+	 * ActualCFGs whose Control Dependence Graph was not needed yet. Computing
+	 * the dominator tree of every instrumented method is expensive, and for
+	 * most methods of large classes the CDG is never asked for.
+	 * 
+	 * Maps from classNames to methodNames to corresponding ActualCFGs
+	 */
+	private final Map<String, Map<String, ActualControlFlowGraph>> pendingControlDependencies = new HashMap<String, Map<String, ActualControlFlowGraph>>();
+
 	/**
 	 * Cache of all created CCFGs
 	 * 
@@ -205,10 +214,15 @@ public class GraphPool {
 	 */
 	public ControlDependenceGraph getCDG(String className, String methodName) {
 
-		if (controlDependencies.get(className) == null)
-			return null;
-
-		return controlDependencies.get(className).get(methodName);
+		Map<String, ControlDependenceGraph> cds = controlDependencies.get(className);
+		ControlDependenceGraph cd = cds == null ? null : cds.get(methodName);
+		if (cd == null) {
+			Map<String, ActualControlFlowGraph> pending = pendingControlDependencies.get(className);
+			ActualControlFlowGraph cfg = pending == null ? null : pending.remove(methodName);
+			if (cfg != null)
+				cd = createAndRegisterControlDependence(cfg);
+		}
+		return cd;
 	}
 
 	// register graphs
@@ -272,7 +286,7 @@ public class GraphPool {
 
 		if (Properties.ALWAYS_REGISTER_BRANCH ||
 				DependencyAnalysis.shouldInstrument(cfg.getClassName(), cfg.getMethodName())) {
-			createAndRegisterControlDependence(cfg);
+			registerControlDependence(cfg);
 		}
 	}
 	
@@ -390,10 +404,32 @@ public class GraphPool {
 		if (Properties.WRITE_CFG)
 			cfg.toDot();
 
-		createAndRegisterControlDependence(cfg);
+		registerControlDependence(cfg);
+	}
+
+	/**
+	 * Makes the CDG of the given CFG available through getCDG(). It is only
+	 * computed on first access, unless the graphs are to be written out.
+	 */
+	private void registerControlDependence(ActualControlFlowGraph cfg) {
+		String className = cfg.getClassName();
+		String methodName = cfg.getMethodName();
+
+		if (controlDependencies.containsKey(className))
+			controlDependencies.get(className).remove(methodName);
+
+		if (Properties.WRITE_CFG) {
+			createAndRegisterControlDependence(cfg);
+			return;
+		}
+
+		if (!pendingControlDependencies.containsKey(className))
+			pendingControlDependencies.put(className,
+			                               new HashMap<String, ActualControlFlowGraph>());
+		pendingControlDependencies.get(className).put(methodName, cfg);
 	}
 
-	private void createAndRegisterControlDependence(ActualControlFlowGraph cfg) {
+	private ControlDependenceGraph createAndRegisterControlDependence(ActualControlFlowGraph cfg) {
 
 		ControlDependenceGraph cd = new ControlDependenceGraph(cfg);
 
@@ -413,6 +449,7 @@ public class GraphPool {
 //		cd.toDot();
 		if (Properties.WRITE_CFG)
 			cd.toDot();
+		return cd;
 	}
 
 	/**
@@ -474,6 +511,7 @@ public class GraphPool {
 		rawCFGs.clear();
 		actualCFGs.clear();
 		controlDependencies.clear();
+		pendingControlDependencies.clear();
 	}
 
 	/**
@@ -488,6 +526,7 @@ public class GraphPool {
 		rawCFGs.remove(className);
 		actualCFGs.remove(className);
 		controlDependencies.remove(className);
+		pendingControlDependencies.remove(className);
 	}
 
 	/**
@@ -507,6 +546,8 @@ public class GraphPool {
 			actualCFGs.get(className).remove(methodName);
 		if (controlDependencies.containsKey(className))
 			controlDependencies.get(className).remove(methodName);
+		if (pendingControlDependencies.containsKey(className))
+			pendingControlDependencies.get(className).remove(methodName);
 	}
 
 	public static void clearAll(String className) {
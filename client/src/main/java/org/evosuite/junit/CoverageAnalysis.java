@@ -462,7 +462,8 @@ public class CoverageAnalysis {
 		return testClasses;
 	}
 
-	private static void analyzeCoverageCriterion(List<JUnitResult> results, Properties.Criterion criterion) {
+	private static void analyzeCoverageCriterion(List<JUnitResult> results, Properties.Criterion criterion,
+			Map<Integer, Map<Class<?>, Set<Integer>>> mutantResults) {
 
 		logger.info("analysing coverage of " + criterion);
 
@@ -479,6 +480,7 @@ public class CoverageAnalysis {
 			goals = factory.getCoverageGoals();
 		}
 		totalGoals += goals.size();
+		Set<?> goalSet = new HashSet<Object>(goals);
 
 		// A dummy Chromosome
         TestChromosome dummy = new TestChromosome();
@@ -506,13 +508,12 @@ public class CoverageAnalysis {
             	for (Integer mutationID : trace.getTouchedMutants()) {
             		Mutation mutation = MutationPool.getMutant(mutationID);
 
-            		if (goals.contains(mutation)) {
-            			MutationObserver.activateMutation(mutationID);
-            			List<JUnitResult> mutationResults = executeTests(tR.getJUnitClass());
-            			MutationObserver.deactivateMutation();
+            		if (goalSet.contains(mutation)) {
+            			Set<Integer> mutantFailureCounts = getMutantFailureCounts(tR.getJUnitClass(), mutationID,
+            					mutantResults);
 
-            			for (JUnitResult mR : mutationResults) {
-            				if (mR.getFailureCount() != tR.getFailureCount()) {
+            			for (Integer failureCount : mutantFailureCounts) {
+            				if (failureCount.intValue() != tR.getFailureCount()) {
             					logger.info("Mutation killed: " + mutationID);
             					covered.set(mutation.getId());
                                 coverage_matrix[index_test][mutationID.intValue()] = true;
@@ -577,10 +578,50 @@ public class CoverageAnalysis {
         }
 	}
 
+	/**
+	 * Executes a test class with the given mutant activated, and returns the
+	 * distinct failure counts of its tests. All tests of the class touching
+	 * the same mutant share the same outcome, so the class is executed only
+	 * once per mutant, and not once per test.
+	 * 
+	 * @param testClass
+	 * @param mutationID
+	 * @param mutantResults
+	 *            failure counts of the test classes already executed against
+	 *            a mutant, indexed by mutant id. Traces are not kept, as they
+	 *            are not needed to decide whether a mutant is killed
+	 * @return
+	 */
+	private static Set<Integer> getMutantFailureCounts(Class<?> testClass, Integer mutationID,
+			Map<Integer, Map<Class<?>, Set<Integer>>> mutantResults) {
+
+		Map<Class<?>, Set<Integer>> resultsOfMutant = mutantResults.get(mutationID);
+		if (resultsOfMutant == null) {
+			resultsOfMutant = new LinkedHashMap<Class<?>, Set<Integer>>();
+			mutantResults.put(mutationID, resultsOfMutant);
+		}
+
+		Set<Integer> failureCounts = resultsOfMutant.get(testClass);
+		if (failureCounts == null) {
+			MutationObserver.activateMutation(mutationID);
+			List<JUnitResult> mutationResults = executeTests(testClass);
+			MutationObserver.deactivateMutation();
+
+			failureCounts = new LinkedHashSet<Integer>();
+			for (JUnitResult mR : mutationResults) {
+				failureCounts.add(mR.getFailureCount());
+			}
+			resultsOfMutant.put(testClass, failureCounts);
+		}
+		return failureCounts;
+	}
+
 	private static void printReport(List<JUnitResult> results) {
 
 		Iterator<String> it = targetClasses.iterator();
 		Criterion[] criterion = Properties.CRITERION;
+		// shared by all target classes and by both mutation criteria
+		Map<Integer, Map<Class<?>, Set<Integer>>> mutantResults = new LinkedHashMap<Integer, Map<Class<?>, Set<Integer>>>();
 
 		while (it.hasNext()) {
 			String targetClass = it.next();
@@ -598,7 +639,7 @@ public class CoverageAnalysis {
 				Properties.Criterion c = criterion[criterion_index];
 				Properties.CRITERION = new Criterion[] { c };
 
-				analyzeCoverageCriterion(results, c);
+				analyzeCoverageCriterion(results, c, mutantResults);
 			}
 
 			// restore
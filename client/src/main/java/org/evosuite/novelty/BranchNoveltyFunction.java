@@ -3,7 +3,7 @@ package org.evosuite.novelty;
 import org.evosuite.TestGenerationContext;
 import org.evosuite.coverage.branch.Branch;
 import org.evosuite.coverage.branch.BranchPool;
-import org.evosuite.ga.NoveltyFunction;
+import org.evosuite.ga.BehaviourNoveltyFunction;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.execution.ExecutionResult;
@@ -15,7 +15,7 @@ import org.slf4j.LoggerFactory;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
-public class BranchNoveltyFunction extends NoveltyFunction<TestChromosome> {
+public class BranchNoveltyFunction extends BehaviourNoveltyFunction<TestChromosome> {
 
     private static final Logger logger = LoggerFactory.getLogger(BranchNoveltyFunction.class);
 
@@ -48,32 +48,38 @@ public class BranchNoveltyFunction extends NoveltyFunction<TestChromosome> {
     }
 
 
+    /**
+     * The behaviour of a test consists of the true distance of every branch
+     * (NaN if the branch was not reached), followed by 1 or 0 for every
+     * branchless method depending on whether it was covered.
+     */
     @Override
-    public double getDistance(TestChromosome individual1, TestChromosome individual2) {
-        ExecutionResult result1 = getExecutionResult(individual1);
-        ExecutionResult result2 = getExecutionResult(individual2);
-
-        ExecutionTrace trace1 = result1.getTrace();
-        ExecutionTrace trace2 = result2.getTrace();
-
-        double difference = 0.0;
+    public double[] getBehaviour(TestChromosome individual) {
+        ExecutionTrace trace = getExecutionResult(individual).getTrace();
 
+        double[] behaviour = new double[branches.size() + branchlessMethods.size()];
+        int i = 0;
         for(Integer branch : branches) {
-            if(trace1.hasTrueDistance(branch) && trace2.hasTrueDistance(branch)) {
-                double distance1 = trace1.getTrueDistance(branch);
-                double distance2 = trace2.getTrueDistance(branch);
-
-                difference += Math.abs(distance1 - distance2);
-
-            } else if(trace1.hasTrueDistance(branch) || trace2.hasTrueDistance(branch)) {
-                difference += 1.0;
-            }
+            behaviour[i++] = trace.hasTrueDistance(branch) ? trace.getTrueDistance(branch) : Double.NaN;
         }
 
-        Set<String> methods1 = trace1.getCoveredBranchlessMethods();
-        Set<String> methods2 = trace2.getCoveredBranchlessMethods();
+        Set<String> methods = trace.getCoveredBranchlessMethods();
         for(String branchlessMethod : branchlessMethods) {
-            if(methods1.contains(branchlessMethod) != methods2.contains(branchlessMethod)) {
+            behaviour[i++] = methods.contains(branchlessMethod) ? 1.0 : 0.0;
+        }
+        return behaviour;
+    }
+
+    @Override
+    public double getDistance(double[] behaviour1, double[] behaviour2) {
+        double difference = 0.0;
+
+        for(int i = 0; i < behaviour1.length; i++) {
+            boolean reached1 = !Double.isNaN(behaviour1[i]);
+            boolean reached2 = !Double.isNaN(behaviour2[i]);
+            if(reached1 && reached2) {
+                difference += Math.abs(behaviour1[i] - behaviour2[i]);
+            } else if(reached1 || reached2) {
                 difference += 1.0;
             }
         }
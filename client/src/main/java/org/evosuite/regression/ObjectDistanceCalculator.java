@@ -22,9 +22,10 @@ package org.evosuite.regression;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,8 +62,19 @@ public class ObjectDistanceCalculator {
   private static final double V = 10;
   private static final double C = 10;
   private static final int MAX_RECURSION = 4;
-  private final Map<Integer, Integer> hashRecursionCntMap = new LinkedHashMap<>();
-  private final Map<Integer, Double> resultCache = new LinkedHashMap<>();
+  private final Map<ObjectPair, Integer> hashRecursionCntMap = new LinkedHashMap<>();
+  private final Map<ObjectPair, Double> resultCache = new LinkedHashMap<>();
+
+  /**
+   * Declared fields of each class. Every comparison of two composite objects needs the fields of
+   * their common ancestor, so these are only looked up once per class.
+   */
+  private static final Map<Class<?>, Field[]> declaredFieldsCache = new ConcurrentHashMap<>();
+
+  /**
+   * All accessible fields of each class and its superclasses, up to (excluding) Object.
+   */
+  private static final Map<Class<?>, Field[]> allFieldsCache = new ConcurrentHashMap<>();
 
   private int numDifferentVariables = 0;
 
@@ -71,14 +83,40 @@ public class ObjectDistanceCalculator {
     return calculator.getObjectDistanceImpl(p, q) + normalize(calculator.numDifferentVariables);
   }
 
-  private static Collection<Field> getAllFields(Class<?> commonAncestor) {
-    Collection<Field> result = new ArrayList<>();
-    Class<?> ancestor = commonAncestor;
-    while (!ancestor.equals(Object.class)) {
-      result.addAll(Arrays.asList(ancestor.getDeclaredFields()));
-      ancestor = ancestor.getSuperclass();
+  /**
+   * The field caches keep their classes alive, thus they have to be cleared whenever the classes
+   * of the SUT are loaded again.
+   */
+  public static void clearCaches() {
+    declaredFieldsCache.clear();
+    allFieldsCache.clear();
+  }
+
+  private static Field[] getDeclaredFields(Class<?> clazz) {
+    Field[] fields = declaredFieldsCache.get(clazz);
+    if (fields == null) {
+      fields = clazz.getDeclaredFields();
+      declaredFieldsCache.put(clazz, fields);
     }
-    return result;
+    return fields;
+  }
+
+  private static Field[] getAllFields(Class<?> commonAncestor) {
+    Field[] fields = allFieldsCache.get(commonAncestor);
+    if (fields == null) {
+      List<Field> result = new ArrayList<>();
+      Class<?> ancestor = commonAncestor;
+      while (!ancestor.equals(Object.class)) {
+        result.addAll(Arrays.asList(getDeclaredFields(ancestor)));
+        ancestor = ancestor.getSuperclass();
+      }
+      fields = result.toArray(new Field[result.size()]);
+      for (Field field : fields) {
+        field.setAccessible(true);
+      }
+      allFieldsCache.put(commonAncestor, fields);
+    }
+    return fields;
   }
 
   private static Class<?> getCommonAncestor(Object p, Object q) {
@@ -118,7 +156,6 @@ public class ObjectDistanceCalculator {
   private static Object getFieldValue(Field field, Object p) {
     try {
       Class<?> fieldType = field.getType();
-      field.setAccessible(true);
       if (fieldType.isPrimitive()) {
         if (fieldType.equals(Boolean.TYPE)) {
           return field.getBoolean(p);
@@ -153,15 +190,11 @@ public class ObjectDistanceCalculator {
     }
   }
 
-  private static Integer getHasCode(Object p, Object q) {
-    return ((p == null) ? 0 : p.hashCode()) + ((q == null) ? 0 : q.hashCode());
-  }
-
-  private static Collection<Field> getNonSharedFields(Class<?> commonAncestor, Object p) {
-    Collection<Field> result = new ArrayList<>();
+  private static int getNumNonSharedFields(Class<?> commonAncestor, Object p) {
+    int result = 0;
     Class<?> ancestor = p.getClass();
     while (!ancestor.equals(commonAncestor)) {
-      result.addAll(Arrays.asList(ancestor.getDeclaredFields()));
+      result += getDeclaredFields(ancestor).length;
       ancestor = ancestor.getSuperclass();
     }
     return result;
@@ -179,8 +212,8 @@ public class ObjectDistanceCalculator {
 
   private static double getTypeDistance(Class<?> commonAncestor, Object p, Object q) {
     double result = getTypeDistance(commonAncestor, p) + getTypeDistance(commonAncestor, q);
-    result += getNonSharedFields(commonAncestor, p).size() * R;
-    result += getNonSharedFields(commonAncestor, q).size() * R;
+    result += getNumNonSharedFields(commonAncestor, p) * R;
+    result += getNumNonSharedFields(commonAncestor, q) * R;
     return result;
   }
 
@@ -235,17 +268,20 @@ public class ObjectDistanceCalculator {
 
   /* Levenshtein distance */
   private double getElementaryDistance(String p, String q) {
-    if (!p.equals(q)) {
-      numDifferentVariables++;
-    }
-    int[][] distanceMatrix = new int[p.length() + 1][q.length() + 1];
-    for (int idx = 0; idx <= p.length(); idx++) {
-      distanceMatrix[idx][0] = idx;
+    if (p.equals(q)) {
+      return 0;
     }
-    for (int jdx = 1; jdx <= q.length(); jdx++) {
-      distanceMatrix[0][jdx] = jdx;
+    numDifferentVariables++;
+
+    // only the last three rows of the distance matrix are needed (two for the transposition)
+    int[] previousPreviousRow = new int[q.length() + 1];
+    int[] previousRow = new int[q.length() + 1];
+    int[] currentRow = new int[q.length() + 1];
+    for (int jdx = 0; jdx <= q.length(); jdx++) {
+      previousRow[jdx] = jdx;
     }
     for (int idx = 1; idx <= p.length(); idx++) {
+      currentRow[0] = idx;
       for (int jdx = 1; jdx <= q.length(); jdx++) {
         int cost;
         if (p.charAt(idx - 1) == q.charAt(jdx - 1)) {
@@ -253,22 +289,26 @@ public class ObjectDistanceCalculator {
         } else {
           cost = 1;
         }
-        distanceMatrix[idx][jdx] = Math.min(
-            distanceMatrix[idx - 1][jdx] + 1, // deletion
-            Math.min(distanceMatrix[idx][jdx - 1] + 1, // insertion
-                distanceMatrix[idx - 1][jdx - 1] + cost // substitution
+        currentRow[jdx] = Math.min(
+            previousRow[jdx] + 1, // deletion
+            Math.min(currentRow[jdx - 1] + 1, // insertion
+                previousRow[jdx - 1] + cost // substitution
             ));
         if ((idx > 1) && (jdx > 1)
             && (p.charAt(idx - 1) == q.charAt(jdx - 2))
             && (p.charAt(idx - 2) == q.charAt(jdx - 1))) {
-          distanceMatrix[idx][jdx] = Math.min(
-              distanceMatrix[idx][jdx],
-              distanceMatrix[idx - 2][jdx - 2] + cost // transposition
+          currentRow[jdx] = Math.min(
+              currentRow[jdx],
+              previousPreviousRow[jdx - 2] + cost // transposition
           );
         }
       }
+      int[] recycledRow = previousPreviousRow;
+      previousPreviousRow = previousRow;
+      previousRow = currentRow;
+      currentRow = recycledRow;
     }
-    return normalize(distanceMatrix[p.length()][q.length()]);
+    return normalize(previousRow[q.length()]);
   }
 
   private double getObjectDistanceImpl(Object p, Object q) {
@@ -441,9 +481,8 @@ public class ObjectDistanceCalculator {
     return distance;
   }
 
-  private boolean breakRecursion(Object p, Object q) {
-    Integer hashCode = getHasCode(p, q);
-    Integer recursionCount = hashRecursionCntMap.get(hashCode);
+  private boolean breakRecursion(ObjectPair pair) {
+    Integer recursionCount = hashRecursionCntMap.get(pair);
     if (recursionCount == null) {
       recursionCount = 0;
     }
@@ -451,38 +490,106 @@ public class ObjectDistanceCalculator {
       return true;
     }
     recursionCount++;
-    hashRecursionCntMap.put(hashCode, recursionCount);
+    hashRecursionCntMap.put(pair, recursionCount);
     return false;
   }
 
   private double getCompositeObjectDistance(Object p, Object q) {
-    Double cachedDistance = resultCache.get(getHasCode(p, q));
+    ObjectPair pair = new ObjectPair(p, q);
+    Double cachedDistance = resultCache.get(pair);
     if (cachedDistance != null) {
       return cachedDistance;
     }
-    if (breakRecursion(p, q)) {
+    if (breakRecursion(pair)) {
       return 0.0;
     }
     Class<?> commonAncestor = getCommonAncestor(p, q);
     double distance = getTypeDistance(commonAncestor, p, q);
     distance += getFieldDistance(commonAncestor, p, q);
-    resultCache.put(getHasCode(p, q), distance);
+    resultCache.put(pair, distance);
     return distance;
   }
 
   private double getFieldDistance(Class<?> commonAncestor, Object p, Object q) {
-    Collection<Field> fields = getAllFields(commonAncestor);
+    Field[] fields = getAllFields(commonAncestor);
     double sum = 0;
     for (Field field : fields) {
-      sum += getObjectDistanceImpl(getFieldValue(field, p), getFieldValue(field, q));
+      if (isIntegralOrBoolean(field.getType())) {
+        sum += getPrimitiveFieldDistance(field, p, q);
+      } else {
+        sum += getObjectDistanceImpl(getFieldValue(field, p), getFieldValue(field, q));
+      }
     }
     if (sum == 0.0) {
       return sum;
     }
-    return sum / fields.size();
+    return sum / fields.length;
+  }
+
+  private static boolean isIntegralOrBoolean(Class<?> fieldType) {
+    return fieldType.isPrimitive() && !fieldType.equals(Double.TYPE)
+        && !fieldType.equals(Float.TYPE);
+  }
+
+  /**
+   * Same distance as the one of the boxed values, without boxing them. Floating point fields are
+   * not handled here, as they need the NaN and Infinity checks of the boxed values.
+   */
+  private double getPrimitiveFieldDistance(Field field, Object p, Object q) {
+    try {
+      Class<?> fieldType = field.getType();
+      if (fieldType.equals(Boolean.TYPE)) {
+        return field.getBoolean(p) == field.getBoolean(q) ? 0 : B;
+      }
+      long difference;
+      if (fieldType.equals(Long.TYPE)) {
+        difference = field.getLong(p) - field.getLong(q);
+      } else if (fieldType.equals(Character.TYPE)) {
+        difference = field.getChar(p) - field.getChar(q);
+      } else {
+        // byte, short and int are all widened to int
+        difference = (long) field.getInt(p) - field.getInt(q);
+      }
+      if (difference == 0) {
+        return 0;
+      }
+      numDifferentVariables++;
+      return normalize(Math.abs(difference));
+    } catch (IllegalAccessException exc) {
+      throw new RuntimeException(exc);
+    }
   }
 
   public int getNumDifferentVariables() {
     return numDifferentVariables;
   }
+
+  /**
+   * Key for a pair of compared objects. Objects are compared by identity, which is what matters to
+   * detect cycles and, unlike their hash codes, does not run code of the SUT.
+   */
+  private static final class ObjectPair {
+
+    private final Object p;
+    private final Object q;
+
+    ObjectPair(Object p, Object q) {
+      this.p = p;
+      this.q = q;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof ObjectPair)) {
+        return false;
+      }
+      ObjectPair other = (ObjectPair) obj;
+      return p == other.p && q == other.q;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(p) + System.identityHashCode(q);
+    }
+  }
 }
@@ -37,6 +37,15 @@ public class EventSequence {
 		}
 	}
 	
+	/**
+	 * Callers on hot paths (mutation, constant pool sampling) check this
+	 * before creating an event, so that tracing costs nothing when it is
+	 * switched off
+	 */
+	public static boolean isEnabled() {
+		return Properties.ENABLE_TRACEING_EVENT;
+	}
+
 	public static void clear() {
 		events.clear();
 	}
@@ -70,6 +79,9 @@ public class EventSequence {
 
 	private static void extractEvents(Set<Integer> diffTrueBranches, boolean conditionValue, 
 			TestChromosome offspring, TestChromosome parent, Set<?> uncoveredGoals) {
+		// the code of both tests is the same for all branches, only print it once
+		String offspringCode = null;
+		String parentCode = null;
 		for(Integer branchId: diffTrueBranches) {
 			Branch b = BranchPool.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT()).getBranch(branchId);
 			if(b == null)
@@ -82,13 +94,14 @@ public class EventSequence {
 			
 			boolean isCovered = isCovered(b, conditionValue, uncoveredGoals);
 			
+			if (offspringCode == null) {
+				offspringCode = offspring.getTestCase().toCode();
+				parentCode = parent.getTestCase().toCode();
+			}
 			BranchCoveringEvent e = new BranchCoveringEvent(System.currentTimeMillis(), branchInfo, 
-					offspring.getTestCase().toCode(),
-					parent.getTestCase().toCode(),
+					offspringCode,
+					parentCode,
 					isCovered);
-			if(b.toString().contains("I15 Branch 55 TABLESWITCH L377 Case 4") && conditionValue == true) {
-				System.currentTimeMillis();
-			}
 			addEvent(e);
 			
 //			analyzeEvent(e,b,offspring,isCovered);
@@ -19,6 +19,10 @@
  */
 package org.evosuite.rmi.service;
 
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 import java.util.ArrayList;
@@ -26,8 +30,10 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -35,6 +41,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.collections.list.SynchronizedList;
 
@@ -51,6 +58,7 @@ import org.evosuite.ga.stoppingconditions.RMIStoppingCondition;
 import org.evosuite.junit.CoverageAnalysis;
 import org.evosuite.result.TestGenerationResult;
 import org.evosuite.result.TestGenerationResultBuilder;
+import org.evosuite.runtime.RuntimeSettings;
 import org.evosuite.runtime.sandbox.PermissionStatistics;
 import org.evosuite.runtime.sandbox.Sandbox;
 import org.evosuite.setup.DependencyAnalysis;
@@ -102,6 +110,23 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 
 	private final BlockingQueue<OutputVariable> outputVariableQueue = new LinkedBlockingQueue<OutputVariable>();
 
+	/**
+	 * Latest progress information (i.e., same state as already sent to the master)
+	 * that still has to be sent by the statistics thread
+	 */
+	private final AtomicReference<ClientStateInformation> pendingProgress = new AtomicReference<ClientStateInformation>();
+
+	/**
+	 * Makes sure state changes and progress reach the master in the order they happened
+	 */
+	private final Object stateLock = new Object();
+
+	/**
+	 * How long the statistics thread collects output variables and progress before
+	 * sending them to the master in a single batch
+	 */
+	private static final long STATISTICS_FLUSH_INTERVAL_MS = 200;
+
 	private Collection<Set<? extends Chromosome>> bestSolutions;
 	
 	private Thread statisticsThread; 
@@ -152,13 +177,17 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 				List<TestGenerationResult> results = new ArrayList<TestGenerationResult>();
 
 				try {
-					// Starting a new search
-					TestSuiteGenerator generator = new TestSuiteGenerator();
-					results.add(generator.generateTestSuite());
-					// TODO: Why?
-					// GeneticAlgorithm<?> ga = generator.getEmployedGeneticAlgorithm();
-
-					masterNode.evosuite_collectTestGenerationResult(clientRmiIdentifier, results);
+					if (Properties.TARGET_CLASSES_FILE_PATH != null) {
+						generateTestSuitesForAllTargets();
+					} else {
+						// Starting a new search
+						TestSuiteGenerator generator = new TestSuiteGenerator();
+						results.add(generator.generateTestSuite());
+						// TODO: Why?
+						// GeneticAlgorithm<?> ga = generator.getEmployedGeneticAlgorithm();
+
+						masterNode.evosuite_collectTestGenerationResult(clientRmiIdentifier, results);
+					}
 				} catch (Throwable t) {
 					logger.error("Error when generating tests for: "
 							+ Properties.TARGET_CLASS + " with seed "
@@ -190,6 +219,57 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 		});
 	}
 
+	/**
+	 * Generate tests for all classes listed in {@link Properties#TARGET_CLASSES_FILE_PATH},
+	 * one after the other. Before each class but the first, the context of the
+	 * previous one is reset, the parameters get back the values they had at
+	 * start up, and the time budget starts anew.
+	 */
+	private void generateTestSuitesForAllTargets() throws IOException {
+		List<String> targets = new ArrayList<String>();
+		for (String line : Files.readAllLines(Paths.get(Properties.TARGET_CLASSES_FILE_PATH))) {
+			if (!line.trim().isEmpty()) {
+				targets.add(line.trim());
+			}
+		}
+
+		Map<Field, Object> parameters = Properties.getParameterValues();
+
+		for (int i = 0; i < targets.size(); i++) {
+			String target = targets.get(i);
+			if (i > 0) {
+				// statistics of the previous class have to be written before they get overwritten
+				sendStatistics();
+				masterNode.evosuite_flushStatisticsForTargetChange(clientRmiIdentifier);
+
+				Properties.setParameterValues(parameters);
+				Properties.TARGET_CLASS = target;
+				TestGenerationContext.getInstance().resetContext();
+				TimeController.resetSingleton();
+				changeState(ClientState.STARTED);
+			}
+			Properties.TARGET_CLASS = target;
+			RuntimeSettings.className = target;
+			updateProperty("TARGET_CLASS", target);
+			LoggingUtils.getEvoLogger().info("* " + ClientProcess.getPrettyPrintIdentifier() + "Target class "
+					+ (i + 1) + "/" + targets.size() + ": " + target);
+
+			List<TestGenerationResult> results = new ArrayList<TestGenerationResult>();
+			try {
+				TestSuiteGenerator generator = new TestSuiteGenerator();
+				results.add(generator.generateTestSuite());
+			} catch (Throwable t) {
+				logger.error("Error when generating tests for: "
+						+ target + " with seed "
+						+ Randomness.getSeed() + ". Configuration id : "
+						+ Properties.CONFIGURATION_ID, t);
+				results.add(TestGenerationResultBuilder.buildErrorResult("Error when generating tests for: "
+						+ target + ": " + t));
+			}
+			masterNode.evosuite_collectTestGenerationResult(clientRmiIdentifier, results);
+		}
+	}
+
 	@Override
 	public void cancelCurrentSearch() throws RemoteException {
 		if (this.state == ClientState.INITIALIZATION) {
@@ -238,6 +318,7 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 
 	@Override
 	public void changeState(ClientState state, ClientStateInformation information) {
+		boolean isProgressUpdate = this.state == state && statisticsThread != null;
 		if (this.state != state){
 			logger.info(ClientProcess.getPrettyPrintIdentifier() + "Client changing state from " + this.state + " to " + state);
 		}
@@ -246,10 +327,21 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 
 		TimeController.getInstance().updateState(state);
 
-		try {
-			masterNode.evosuite_informChangeOfStateInClient(clientRmiIdentifier, state,information);
-		} catch (RemoteException e) {
-			logger.error("Cannot inform master of change of state", e);
+		if (isProgressUpdate) {
+			/*
+			 * Progress is reported at every iteration of the search, and only the
+			 * latest one matters: the statistics thread sends it with the next batch
+			 */
+			pendingProgress.set(information);
+		} else {
+			synchronized (stateLock) {
+				pendingProgress.set(null);
+				try {
+					masterNode.evosuite_informChangeOfStateInClient(clientRmiIdentifier, state,information);
+				} catch (RemoteException e) {
+					logger.error("Cannot inform master of change of state", e);
+				}
+			}
 		}
 
 		if (this.state.equals(ClientState.DONE)) {
@@ -277,6 +369,8 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 		logger.info("Flushing output variables to master process");
 
 		try {
+			// the values of the previous class have to be in before flushing them
+			sendStatistics();
 			masterNode.evosuite_flushStatisticsForClassChange(clientRmiIdentifier);
 		} catch (RemoteException e) {
 			logger.error("Cannot inform master of change of state", e);
@@ -350,23 +444,18 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 	public void stop(){
 		if(statisticsThread!=null){
 			statisticsThread.interrupt();
-			List<OutputVariable> vars = new ArrayList<OutputVariable>();
-			outputVariableQueue.drainTo(vars);
-			for(OutputVariable ov : vars) {
-				try {
-					masterNode.evosuite_collectStatistics(clientRmiIdentifier, ov.variable, ov.value);
-				} catch (RemoteException e) {
-					logger.error("Error when exporting statistics: "+ov.variable+"="+ov.value, e);
-					break;
-				}
-			}
-
 			try {
 				statisticsThread.join(3000);
 			} catch (InterruptedException e) {
 				logger.error("Failed to stop statisticsThread in time");
 			}
 			statisticsThread = null;
+
+			try {
+				sendStatistics();
+			} catch (RemoteException e) {
+				logger.error("Error when exporting statistics", e);
+			}
 		}
 
 		changeState(ClientState.FINISHED);
@@ -384,14 +473,13 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 				@Override
 				public void run() {
 					while (!this.isInterrupted()) {
-						OutputVariable ov = null;
 						try {
-							ov = outputVariableQueue.take(); //this is blocking
-							masterNode.evosuite_collectStatistics(clientRmiIdentifier, ov.variable, ov.value);
+							Thread.sleep(STATISTICS_FLUSH_INTERVAL_MS);
+							sendStatistics();
 						} catch (InterruptedException e) {
 							break;
 						} catch (RemoteException e) {
-							logger.error("Error when exporting statistics: "+ov.variable+"="+ov.value, e);
+							logger.error("Error when exporting statistics", e);
 							break;
 						}
 					}
@@ -408,6 +496,31 @@ public class ClientNodeImpl implements ClientNodeLocal, ClientNodeRemote {
 		return true;
 	}
 
+	/**
+	 * Sends the latest progress and all the output variables tracked so far to the
+	 * master. Output variables are sent in a single batch, where only the last value
+	 * of each variable is kept.
+	 */
+	private synchronized void sendStatistics() throws RemoteException {
+		synchronized (stateLock) {
+			ClientStateInformation progress = pendingProgress.getAndSet(null);
+			if (progress != null) {
+				masterNode.evosuite_informChangeOfStateInClient(clientRmiIdentifier, progress.getState(), progress);
+			}
+		}
+
+		List<OutputVariable> vars = new ArrayList<OutputVariable>();
+		outputVariableQueue.drainTo(vars);
+		if (vars.isEmpty()) {
+			return;
+		}
+		Map<RuntimeVariable, Object> batch = new LinkedHashMap<RuntimeVariable, Object>();
+		for (OutputVariable ov : vars) {
+			batch.put(ov.variable, ov.value);
+		}
+		masterNode.evosuite_collectStatisticsBatch(clientRmiIdentifier, batch);
+	}
+
 	public String getClientRmiIdentifier() {
 		return clientRmiIdentifier;
 	}
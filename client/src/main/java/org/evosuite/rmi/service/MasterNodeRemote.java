@@ -22,6 +22,7 @@ package org.evosuite.rmi.service;
 import java.rmi.Remote;
 import java.rmi.RemoteException;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.evosuite.Properties.NoSuchParameterException;
@@ -51,10 +52,18 @@ public interface MasterNodeRemote extends Remote {
 
 	public void evosuite_collectStatistics(String clientRmiIdentifier, RuntimeVariable variable, Object value) throws RemoteException;
 
+	public void evosuite_collectStatisticsBatch(String clientRmiIdentifier, Map<RuntimeVariable, Object> variables) throws RemoteException;
+
 	public void evosuite_collectTestGenerationResult(String clientRmiIdentifier, List<TestGenerationResult> results) throws RemoteException;
 
 	public void evosuite_flushStatisticsForClassChange(String clientRmiIdentifier) throws RemoteException;
 
+	/**
+	 * Write the statistics of the class the client has just generated tests
+	 * for, when it goes on with the next one of several target classes
+	 */
+	public void evosuite_flushStatisticsForTargetChange(String clientRmiIdentifier) throws RemoteException;
+
 	public void evosuite_updateProperty(String clientRmiIdentifier, String propertyName, Object value) throws RemoteException, IllegalArgumentException, IllegalAccessException, NoSuchParameterException;
 	
 	public void evosuite_migrate(String clientRmiIdentifier, Set<? extends Chromosome> migrants) throws RemoteException;
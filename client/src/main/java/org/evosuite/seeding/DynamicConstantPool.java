@@ -73,14 +73,16 @@ public class DynamicConstantPool implements ConstantPool {
 	@Override
 	public String getRandomString() {
 		String value = stringPool.getRandomValue();
-		EventSequence.addEvent(new DynamicPoolEvent(System.currentTimeMillis(), SamplingDataType.STRING, stringPool.size(), value));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new DynamicPoolEvent(System.currentTimeMillis(), SamplingDataType.STRING, stringPool.size(), value));
 		return value;
 	}
 
 	@Override
 	public Type getRandomType() {
 		Type value = typePool.getRandomValue();
-		EventSequence.addEvent(new DynamicPoolEvent(System.currentTimeMillis(), SamplingDataType.CLASS, typePool.size(), value.toString()));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new DynamicPoolEvent(System.currentTimeMillis(), SamplingDataType.CLASS, typePool.size(), value.toString()));
 		return value;
 	}
 
@@ -90,7 +92,8 @@ public class DynamicConstantPool implements ConstantPool {
 	@Override
 	public int getRandomInt() {
 		int value = intPool.getRandomValue();
-		EventSequence.addEvent(new DynamicPoolEvent(System.currentTimeMillis(), SamplingDataType.INT, intPool.size(), String.valueOf(value)));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new DynamicPoolEvent(System.currentTimeMillis(), SamplingDataType.INT, intPool.size(), String.valueOf(value)));
 		return value;
 	}
 
@@ -100,7 +103,8 @@ public class DynamicConstantPool implements ConstantPool {
 	@Override
 	public float getRandomFloat() {
 		float value = floatPool.getRandomValue();
-		EventSequence.addEvent(new DynamicPoolEvent(System.currentTimeMillis(), SamplingDataType.FLOAT, floatPool.size(), String.valueOf(value)));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new DynamicPoolEvent(System.currentTimeMillis(), SamplingDataType.FLOAT, floatPool.size(), String.valueOf(value)));
 		return value;
 	}
 
@@ -110,7 +114,8 @@ public class DynamicConstantPool implements ConstantPool {
 	@Override
 	public double getRandomDouble() {
 		double value = doublePool.getRandomValue();
-		EventSequence.addEvent(new DynamicPoolEvent(System.currentTimeMillis(), SamplingDataType.DOUBLE, doublePool.size(), String.valueOf(value)));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new DynamicPoolEvent(System.currentTimeMillis(), SamplingDataType.DOUBLE, doublePool.size(), String.valueOf(value)));
 		return value;
 	}
 
@@ -120,7 +125,8 @@ public class DynamicConstantPool implements ConstantPool {
 	@Override
 	public long getRandomLong() {
 		long value = longPool.getRandomValue();
-		EventSequence.addEvent(new DynamicPoolEvent(System.currentTimeMillis(), SamplingDataType.LONG, longPool.size(), String.valueOf(value)));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new DynamicPoolEvent(System.currentTimeMillis(), SamplingDataType.LONG, longPool.size(), String.valueOf(value)));
 		return value;
 	}
 	
@@ -130,7 +136,8 @@ public class DynamicConstantPool implements ConstantPool {
 		if(value == null) {
 			value = Randomness.nextChar();
 		}
-		EventSequence.addEvent(new DynamicPoolEvent(System.currentTimeMillis(), SamplingDataType.CHARACTER, charPool.size(), String.valueOf(value)));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new DynamicPoolEvent(System.currentTimeMillis(), SamplingDataType.CHARACTER, charPool.size(), String.valueOf(value)));
 		return value;
 	}
 
@@ -130,14 +130,16 @@ public class StaticConstantPool implements ConstantPool {
 	@Override
 	public String getRandomString() {
 		String value = Randomness.choice(stringPool);
-		EventSequence.addEvent(EventFactory.createStaticEvent(isContextual, System.currentTimeMillis(), SamplingDataType.STRING, stringPool.size(), String.valueOf(value)));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(EventFactory.createStaticEvent(isContextual, System.currentTimeMillis(), SamplingDataType.STRING, stringPool.size(), String.valueOf(value)));
 		return value;
 	}
 
 	@Override
 	public Type getRandomType() {
 		Type value = Randomness.choice(typePool);
-		EventSequence.addEvent(EventFactory.createStaticEvent(isContextual, System.currentTimeMillis(), SamplingDataType.CLASS, typePool.size(), String.valueOf(value)));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(EventFactory.createStaticEvent(isContextual, System.currentTimeMillis(), SamplingDataType.CLASS, typePool.size(), String.valueOf(value)));
 		return value;
 	}
 
@@ -152,7 +154,8 @@ public class StaticConstantPool implements ConstantPool {
 	public int getRandomInt() {
 		int value = Randomness.choice(intPool);
 //		System.currentTimeMillis();
-		EventSequence.addEvent(EventFactory.createStaticEvent(isContextual, System.currentTimeMillis(), SamplingDataType.INT, intPool.size(), String.valueOf(value)));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(EventFactory.createStaticEvent(isContextual, System.currentTimeMillis(), SamplingDataType.INT, intPool.size(), String.valueOf(value)));
 		return value;
 	}
 
@@ -166,7 +169,8 @@ public class StaticConstantPool implements ConstantPool {
 	@Override
 	public float getRandomFloat() {
 		float value = Randomness.choice(floatPool);
-		EventSequence.addEvent(EventFactory.createStaticEvent(isContextual, System.currentTimeMillis(), SamplingDataType.FLOAT, floatPool.size(), String.valueOf(value)));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(EventFactory.createStaticEvent(isContextual, System.currentTimeMillis(), SamplingDataType.FLOAT, floatPool.size(), String.valueOf(value)));
 		return value;
 	}
 
@@ -180,7 +184,8 @@ public class StaticConstantPool implements ConstantPool {
 	@Override
 	public double getRandomDouble() {
 		double value = Randomness.choice(doublePool);
-		EventSequence.addEvent(EventFactory.createStaticEvent(isContextual, System.currentTimeMillis(), SamplingDataType.DOUBLE, doublePool.size(), String.valueOf(value)));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(EventFactory.createStaticEvent(isContextual, System.currentTimeMillis(), SamplingDataType.DOUBLE, doublePool.size(), String.valueOf(value)));
 		return value;
 	}
 
@@ -194,7 +199,8 @@ public class StaticConstantPool implements ConstantPool {
 	@Override
 	public long getRandomLong() {
 		long value = Randomness.choice(longPool);
-		EventSequence.addEvent(EventFactory.createStaticEvent(isContextual, System.currentTimeMillis(), SamplingDataType.LONG, longPool.size(), String.valueOf(value)));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(EventFactory.createStaticEvent(isContextual, System.currentTimeMillis(), SamplingDataType.LONG, longPool.size(), String.valueOf(value)));
 		return value;
 	}
 	
@@ -211,7 +217,8 @@ public class StaticConstantPool implements ConstantPool {
 		if(value == null) {
 			value = Randomness.nextChar();
 		}
-		EventSequence.addEvent(EventFactory.createStaticEvent(isContextual, System.currentTimeMillis(), SamplingDataType.CHARACTER, charPool.size(), String.valueOf(value)));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(EventFactory.createStaticEvent(isContextual, System.currentTimeMillis(), SamplingDataType.CHARACTER, charPool.size(), String.valueOf(value)));
 		return value;
 	}
 
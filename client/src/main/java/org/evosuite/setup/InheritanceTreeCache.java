@@ -0,0 +1,197 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.setup;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.evosuite.Properties;
+import org.evosuite.utils.MD5;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Binary cache of the inheritance information of classpath jars, so that
+ * jars which did not change since a previous run do not need to be parsed
+ * class by class again.
+ *
+ * <p>
+ * There is one file per jar in {@link Properties#INHERITANCE_CACHE_DIR},
+ * named after the jar's absolute path, size and modification time.
+ */
+final class InheritanceTreeCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(InheritanceTreeCache.class);
+
+	private static final int MAGIC = 0x45564948;
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final String SUFFIX = ".inh";
+
+	private InheritanceTreeCache() {
+	}
+
+	/**
+	 * The part of a class file the inheritance tree is built from
+	 */
+	static final class ClassRecord {
+
+		final String name;
+
+		final int access;
+
+		/** null for java.lang.Object */
+		final String superName;
+
+		final List<String> interfaces;
+
+		/** method names concatenated with their descriptors */
+		final List<String> methods;
+
+		@SuppressWarnings("unchecked")
+		ClassRecord(ClassNode cn) {
+			this.name = cn.name;
+			this.access = cn.access;
+			this.superName = cn.superName;
+			this.interfaces = new ArrayList<>(cn.interfaces);
+			this.methods = new ArrayList<>();
+			if ((Opcodes.ACC_INTERFACE & cn.access) != Opcodes.ACC_INTERFACE) {
+				for (Object m : cn.methods) {
+					MethodNode mn = (MethodNode) m;
+					methods.add(mn.name + mn.desc);
+				}
+			}
+		}
+
+		private ClassRecord(String name, int access, String superName, List<String> interfaces,
+		        List<String> methods) {
+			this.name = name;
+			this.access = access;
+			this.superName = superName;
+			this.interfaces = interfaces;
+			this.methods = methods;
+		}
+	}
+
+	/**
+	 * @param classPathEntry
+	 * @return the cache file for the given entry, or null if the entry is not
+	 *         a jar file or caching is disabled
+	 */
+	static File getCacheFile(String classPathEntry) {
+		if (Properties.INHERITANCE_CACHE_DIR == null || Properties.INHERITANCE_CACHE_DIR.isEmpty()) {
+			return null;
+		}
+		File jar = new File(classPathEntry);
+		if (!jar.isFile() || !jar.getName().endsWith(".jar")) {
+			return null;
+		}
+		String key = jar.getAbsolutePath() + File.pathSeparator + jar.length() + File.pathSeparator
+		        + jar.lastModified();
+		return new File(Properties.INHERITANCE_CACHE_DIR, MD5.hash(key.getBytes(StandardCharsets.UTF_8)) + SUFFIX);
+	}
+
+	static List<ClassRecord> read(File file) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				throw new IOException("Not an inheritance cache file of the current version: " + file);
+			}
+			int numClasses = in.readInt();
+			List<ClassRecord> records = new ArrayList<>(numClasses);
+			for (int i = 0; i < numClasses; i++) {
+				String name = in.readUTF();
+				int access = in.readInt();
+				String superName = in.readBoolean() ? in.readUTF() : null;
+				List<String> interfaces = readStrings(in);
+				List<String> methods = readStrings(in);
+				records.add(new ClassRecord(name, access, superName, interfaces, methods));
+			}
+			return records;
+		}
+	}
+
+	/**
+	 * Writes to a temporary file first, so that concurrent clients never see
+	 * an incomplete cache file
+	 */
+	static void write(File file, List<ClassRecord> records) {
+		File folder = file.getParentFile();
+		if (!folder.exists() && !folder.mkdirs() && !folder.exists()) {
+			logger.warn("Failed to create folder " + folder.getAbsolutePath());
+			return;
+		}
+		File tmp = null;
+		try {
+			tmp = File.createTempFile(file.getName(), ".tmp", folder);
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(records.size());
+				for (ClassRecord record : records) {
+					out.writeUTF(record.name);
+					out.writeInt(record.access);
+					out.writeBoolean(record.superName != null);
+					if (record.superName != null) {
+						out.writeUTF(record.superName);
+					}
+					writeStrings(out, record.interfaces);
+					writeStrings(out, record.methods);
+				}
+			}
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			logger.warn("Failed to write inheritance cache " + file.getAbsolutePath() + ": " + e.getMessage());
+			if (tmp != null) {
+				tmp.delete();
+			}
+		}
+	}
+
+	private static List<String> readStrings(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		List<String> strings = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			strings.add(in.readUTF());
+		}
+		return strings;
+	}
+
+	private static void writeStrings(DataOutputStream out, List<String> strings) throws IOException {
+		out.writeInt(strings.size());
+		for (String s : strings) {
+			out.writeUTF(s);
+		}
+	}
+}
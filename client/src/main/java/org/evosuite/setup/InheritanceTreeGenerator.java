@@ -42,7 +42,6 @@ import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.ClassNode;
 import org.objectweb.asm.tree.InnerClassNode;
-import org.objectweb.asm.tree.MethodNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -97,12 +96,36 @@ public class InheritanceTreeGenerator {
 
 			logger.debug("Analyzing classpath entry {}", classPathEntry);
 			LoggingUtils.getEvoLogger().info("  - " + classPathEntry);
+
+			File cacheFile = InheritanceTreeCache.getCacheFile(classPathEntry);
+			if (cacheFile != null && cacheFile.exists()) {
+				try {
+					for (InheritanceTreeCache.ClassRecord record : InheritanceTreeCache.read(cacheFile)) {
+						addClassRecord(inheritanceTree, record, false);
+					}
+					logger.debug("Loaded cached inheritance data of {}", classPathEntry);
+					continue;
+				} catch (IOException e) {
+					logger.warn("Failed to read inheritance cache " + cacheFile.getAbsolutePath() + ": " + e.getMessage());
+				}
+			}
+
+			List<InheritanceTreeCache.ClassRecord> records = new ArrayList<>();
 	        for(String className : ResourceList.getInstance(
 					TestGenerationContext.getInstance().getClassLoaderForSUT()).getAllClasses(classPathEntry, "", true, false)) {
 	        	// handle individual class
-				analyzeClassStream(inheritanceTree, ResourceList.getInstance(
-						TestGenerationContext.getInstance().getClassLoaderForSUT()).getClassAsStream(className), false);
+				ClassNode cn = readClassNode(ResourceList.getInstance(
+						TestGenerationContext.getInstance().getClassLoaderForSUT()).getClassAsStream(className));
+				if (cn == null)
+					continue;
+				logger.info("Analyzing class {}", cn.name);
+				InheritanceTreeCache.ClassRecord record = new InheritanceTreeCache.ClassRecord(cn);
+				records.add(record);
+				addClassRecord(inheritanceTree, record, false);
 	        }
+			if (cacheFile != null) {
+				InheritanceTreeCache.write(cacheFile, records);
+			}
 
 			// analyze(inheritanceTree, classPathEntry);
 		}
@@ -236,6 +259,16 @@ public class InheritanceTreeGenerator {
 
 	private static void analyzeClassStream(InheritanceTree inheritanceTree,
 	        InputStream inputStream, boolean onlyPublic) {
+		ClassNode cn = readClassNode(inputStream);
+		if (cn != null)
+			analyzeClassNode(inheritanceTree, cn, onlyPublic);
+	}
+
+	/**
+	 * @return the class without code and debug information, or null if it
+	 *         could not be read
+	 */
+	private static ClassNode readClassNode(InputStream inputStream) {
 		try {
 			ClassReader reader = new ClassReader(inputStream);
 			inputStream.close();
@@ -243,31 +276,34 @@ public class InheritanceTreeGenerator {
 			ClassNode cn = new ClassNode();
 			reader.accept(cn, ClassReader.SKIP_FRAMES | ClassReader.SKIP_DEBUG
 			        | ClassReader.SKIP_CODE);
-			analyzeClassNode(inheritanceTree, cn, onlyPublic);
-
+			return cn;
 
 		} catch (IOException e) {
 			logger.error("", e);
 		} catch(java.lang.ArrayIndexOutOfBoundsException e) {
 			logger.error("ASM Error while reading class ("+e.getMessage()+")");
 		}
+		return null;
 	}
-	
-	@SuppressWarnings("unchecked")
+
 	private static void analyzeClassNode(InheritanceTree inheritanceTree,
 	        ClassNode cn, boolean onlyPublic) {
 		
 		logger.info("Analyzing class {}", cn.name);
-		
+		addClassRecord(inheritanceTree, new InheritanceTreeCache.ClassRecord(cn), onlyPublic);
+	}
+
+	private static void addClassRecord(InheritanceTree inheritanceTree,
+	        InheritanceTreeCache.ClassRecord cn, boolean onlyPublic) {
+
 		// Don't load classes already seen from a different CP entry
 		if(inheritanceTree.hasClass(cn.name))
 			return;
 
 		if ((Opcodes.ACC_INTERFACE & cn.access) != Opcodes.ACC_INTERFACE) {
-			for (Object m : cn.methods) {
-				MethodNode mn = (MethodNode) m;
+			for (String method : cn.methods) {
 				inheritanceTree
-				.addAnalyzedMethod(cn.name, mn.name, mn.desc);
+				.addAnalyzedMethod(cn.name, method, "");
 			}
 			if ((Opcodes.ACC_ABSTRACT & cn.access) == Opcodes.ACC_ABSTRACT) {
 				inheritanceTree.registerAbstractClass(cn.name);
@@ -289,8 +325,7 @@ public class InheritanceTreeGenerator {
 		if (cn.superName != null)
 			inheritanceTree.addSuperclass(cn.name, cn.superName, cn.access);
 
-		List<String> interfaces = cn.interfaces;
-		for (String interfaceName : interfaces) {
+		for (String interfaceName : cn.interfaces) {
 			inheritanceTree.addInterface(cn.name, interfaceName);
 		}
 	}
@@ -32,7 +32,6 @@ import org.evosuite.symbolic.expr.fp.RealVariable;
 import org.evosuite.symbolic.expr.str.StringVariable;
 import org.evosuite.symbolic.solver.SolverTimeoutException;
 import org.evosuite.symbolic.solver.SolverEmptyQueryException;
-import org.evosuite.symbolic.solver.DistanceEstimator;
 import org.evosuite.symbolic.solver.Solver;
 import org.evosuite.symbolic.solver.SolverResult;
 import org.evosuite.utils.Randomness;
@@ -60,7 +59,8 @@ public final class EvoSuiteSolver extends Solver {
 		Set<Variable<?>> variables = getVariables(constraints);
 		Map<String, Object> initialValues = getConcreteValues(variables);
 
-		double distance = DistanceEstimator.getDistance(constraints);
+		IncrementalDistanceEstimator distanceEstimator = new IncrementalDistanceEstimator(constraints);
+		double distance = distanceEstimator.getDistance();
 		if (distance == 0.0) {
 			log.info("Initial distance already is 0.0, skipping search");
 			SolverResult satResult = SolverResult.newSAT(initialValues);
@@ -81,20 +81,21 @@ public final class EvoSuiteSolver extends Solver {
 
 				if (v instanceof IntegerVariable) {
 					IntegerVariable integerVariable = (IntegerVariable) v;
-					IntegerAVM avm = new IntegerAVM(integerVariable, constraints, startTimeMillis, timeout);
+					IntegerAVM avm = new IntegerAVM(integerVariable, distanceEstimator, startTimeMillis, timeout);
 					avm.applyAVM();
 				} else if (v instanceof RealVariable) {
 					RealVariable realVariable = (RealVariable) v;
-					RealAVM avm = new RealAVM(realVariable, constraints, startTimeMillis, timeout);
+					RealAVM avm = new RealAVM(realVariable, distanceEstimator, startTimeMillis, timeout);
 					avm.applyAVM();
 				} else if (v instanceof StringVariable) {
 					StringVariable strVariable = (StringVariable) v;
-					StringAVM avm = new StringAVM(strVariable, constraints, startTimeMillis, timeout);
+					StringAVM avm = new StringAVM(strVariable, distanceEstimator, startTimeMillis, timeout);
 					avm.applyAVM();
 				} else {
 					throw new RuntimeException("Unknown variable type " + v.getClass().getName());
 				}
-				distance = DistanceEstimator.getDistance(constraints);
+				// the last value tried by the AVM might have been restored
+				distance = distanceEstimator.updateDistance(v);
 				if (distance <= 0.0) {
 					log.info("Distance is 0, ending search");
 					break;
@@ -106,6 +107,7 @@ public final class EvoSuiteSolver extends Solver {
 			} else {
 				log.info("Randomizing variables");
 				randomizeValues(variables, getConstants(constraints));
+				distance = distanceEstimator.refresh();
 			}
 		}
 
@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver.avm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.DistanceCalculator;
+import org.evosuite.symbolic.expr.Variable;
+import org.evosuite.symbolic.solver.DistanceEstimator;
+
+/**
+ * Keeps the normalized distance of every constraint of a constraint system,
+ * so that changing the concrete value of one variable only requires the
+ * constraints mentioning that variable to be evaluated again.
+ *
+ * The total is always summed in constraint order, thus the result is the
+ * same as {@link DistanceEstimator#getDistance(Collection)}.
+ */
+final class IncrementalDistanceEstimator {
+
+	private final Collection<Constraint<?>> constraints;
+
+	private final Constraint<?>[] constraintArray;
+
+	/**
+	 * Last known normalized distance of each constraint (same index as
+	 * <code>constraintArray</code>)
+	 */
+	private final double[] distances;
+
+	/**
+	 * For each variable, the indexes of the constraints it appears in
+	 */
+	private final Map<Variable<?>, int[]> constraintsOfVariable = new HashMap<Variable<?>, int[]>();
+
+	private final DistanceCalculator distanceCalculator = new DistanceCalculator();
+
+	public IncrementalDistanceEstimator(Collection<Constraint<?>> constraints) {
+		this.constraints = constraints;
+		this.constraintArray = constraints.toArray(new Constraint<?>[constraints.size()]);
+		this.distances = new double[constraintArray.length];
+
+		Map<Variable<?>, List<Integer>> occurrences = new HashMap<Variable<?>, List<Integer>>();
+		for (int i = 0; i < constraintArray.length; i++) {
+			Set<Variable<?>> variables = constraintArray[i].getVariables();
+			for (Variable<?> v : variables) {
+				List<Integer> indexes = occurrences.get(v);
+				if (indexes == null) {
+					indexes = new ArrayList<Integer>();
+					occurrences.put(v, indexes);
+				}
+				indexes.add(i);
+			}
+		}
+		for (Map.Entry<Variable<?>, List<Integer>> entry : occurrences.entrySet()) {
+			List<Integer> indexes = entry.getValue();
+			int[] array = new int[indexes.size()];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = indexes.get(i);
+			}
+			constraintsOfVariable.put(entry.getKey(), array);
+		}
+
+		refresh();
+	}
+
+	public Collection<Constraint<?>> getConstraints() {
+		return constraints;
+	}
+
+	/**
+	 * Evaluates all constraints again. Needed whenever more than one variable
+	 * changed, e.g. after randomizing the variables.
+	 *
+	 * @return the distance of the whole constraint system
+	 */
+	public double refresh() {
+		for (int i = 0; i < constraintArray.length; i++) {
+			distances[i] = DistanceEstimator.getDistance(constraintArray[i], distanceCalculator);
+		}
+		return getDistance();
+	}
+
+	/**
+	 * Evaluates only the constraints in which the given variable appears.
+	 *
+	 * @param variable
+	 *            the only variable whose concrete value changed since the
+	 *            last evaluation
+	 * @return the distance of the whole constraint system
+	 */
+	public double updateDistance(Variable<?> variable) {
+		int[] indexes = constraintsOfVariable.get(variable);
+		if (indexes != null) {
+			for (int i : indexes) {
+				distances[i] = DistanceEstimator.getDistance(constraintArray[i], distanceCalculator);
+			}
+		}
+		return getDistance();
+	}
+
+	/**
+	 * @return the cached distance of the whole constraint system
+	 */
+	public double getDistance() {
+		double result = 0;
+		for (double d : distances) {
+			if (d == Double.MAX_VALUE) {
+				return Double.MAX_VALUE;
+			}
+			result += d;
+		}
+		return Math.abs(result);
+	}
+}
@@ -25,15 +25,14 @@ import java.util.Collection;
 
 import org.evosuite.symbolic.expr.Constraint;
 import org.evosuite.symbolic.expr.fp.RealVariable;
-import org.evosuite.symbolic.solver.DistanceEstimator;
 import org.evosuite.symbolic.solver.SolverTimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 final class RealAVM extends VariableAVM {
 
-	public RealAVM(RealVariable realVar, Collection<Constraint<?>> cnstr, long start_time, long timeout) {
-		super(cnstr, start_time, timeout);
+	public RealAVM(RealVariable realVar, IncrementalDistanceEstimator distanceEstimator, long start_time, long timeout) {
+		super(realVar, distanceEstimator, start_time, timeout);
 		this.realVar = realVar;
 	}
 
@@ -67,7 +66,7 @@ final class RealAVM extends VariableAVM {
 
 		boolean improvement = false;
 
-		final double initial_distance = DistanceEstimator.getDistance(cnstr);
+		final double initial_distance = getDistance();
 		checkpointVar(initial_distance);
 		if (initial_distance == 0.0) {
 			// already solved, no improvement found
@@ -82,7 +81,7 @@ final class RealAVM extends VariableAVM {
 			// Try increment
 			log.debug("Trying to increment " + realVar + " with: " + delta);
 			incrementVar(delta);
-			double newDist = DistanceEstimator.getDistance(cnstr);
+			double newDist = getDistance();
 			log.debug("Old distance: " + this.checkpointedDistance + ", new distance: " + newDist);
 			if (distImpr(newDist)) {
 				improvement = true;
@@ -98,7 +97,7 @@ final class RealAVM extends VariableAVM {
 				// Try decrement
 				log.debug("Trying to decrement " + realVar + " with: " + delta);
 				incrementVar(-delta);
-				newDist = DistanceEstimator.getDistance(cnstr);
+				newDist = getDistance();
 				if (distImpr(newDist)) {
 					improvement = true;
 					checkpointVar(newDist);
@@ -213,7 +212,7 @@ final class RealAVM extends VariableAVM {
 		realVar.setConcreteValue(newValue);
 
 		log.debug("Trying to chop precision " + precision + ": " + value + " -> " + newValue);
-		double dist = DistanceEstimator.getDistance(cnstr);
+		double dist = getDistance();
 		if (!distWrsn(dist)) {
 			checkpointVar(dist);
 			return;// true;
@@ -238,7 +237,7 @@ final class RealAVM extends VariableAVM {
 		log.debug("[Loop] Trying increment " + delta + " of " + realVar.toString());
 
 		incrementVar(delta);
-		double newDist = DistanceEstimator.getDistance(cnstr);
+		double newDist = getDistance();
 		log.debug("[Loop] Old distance: " + this.checkpointedDistance + ", new distance: " + newDist);
 		while (distImpr(newDist)) {
 			if (isFinished()) {
@@ -253,7 +252,7 @@ final class RealAVM extends VariableAVM {
 			delta = factor * delta;
 			log.debug("[Loop] Trying increment " + delta + " of " + realVar);
 			incrementVar(delta);
-			newDist = DistanceEstimator.getDistance(cnstr);
+			newDist = getDistance();
 		}
 		log.debug("No improvement on " + realVar);
 		restoreVar();
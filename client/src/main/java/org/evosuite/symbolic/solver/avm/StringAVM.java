@@ -29,7 +29,6 @@ import org.evosuite.symbolic.expr.StringConstraint;
 import org.evosuite.symbolic.expr.str.StringValue;
 import org.evosuite.symbolic.expr.str.StringVariable;
 import org.evosuite.symbolic.expr.token.HasMoreTokensExpr;
-import org.evosuite.symbolic.solver.DistanceEstimator;
 import org.evosuite.symbolic.solver.SolverTimeoutException;
 import org.evosuite.utils.Randomness;
 import org.slf4j.Logger;
@@ -37,8 +36,8 @@ import org.slf4j.LoggerFactory;
 
 final class StringAVM extends VariableAVM {
 
-	public StringAVM(StringVariable strVar, Collection<Constraint<?>> cnstr, long start_time, long timeout) {
-		super(cnstr, start_time, timeout);
+	public StringAVM(StringVariable strVar, IncrementalDistanceEstimator distanceEstimator, long start_time, long timeout) {
+		super(strVar, distanceEstimator, start_time, timeout);
 		this.strVar = strVar;
 	}
 
@@ -64,7 +63,7 @@ final class StringAVM extends VariableAVM {
 		log.debug("Trying to remove characters");
 		boolean improvement = false;
 
-		checkpointVar(DistanceEstimator.getDistance(cnstr));
+		checkpointVar(getDistance());
 
 		// First chop characters from the back until distance doesn't improve
 		String oldString = strVar.getConcreteValue();
@@ -80,7 +79,7 @@ final class StringAVM extends VariableAVM {
 			log.debug("Current attempt: " + newStr);
 			improved = false;
 
-			double newDist = DistanceEstimator.getDistance(cnstr);
+			double newDist = getDistance();
 
 			// if (distImpr(newDist)) {
 			if (newDist <= checkpointDistance) {
@@ -113,7 +112,7 @@ final class StringAVM extends VariableAVM {
 		// try to add at the end
 		log.debug("Trying to add characters");
 
-		checkpointVar(DistanceEstimator.getDistance(cnstr));
+		checkpointVar(getDistance());
 
 		// Finally add new characters at the end of the string
 		improved = true;
@@ -127,7 +126,7 @@ final class StringAVM extends VariableAVM {
 			char charToInsert = Randomness.nextChar();
 			String newStr = oldString + charToInsert;
 			strVar.setConcreteValue(newStr);
-			double newDist = DistanceEstimator.getDistance(cnstr);
+			double newDist = getDistance();
 			log.debug("Adding: " + newStr + ": " + newDist);
 			if (distImpr(newDist)) {
 				improvement = true;
@@ -165,7 +164,7 @@ final class StringAVM extends VariableAVM {
 				char charToInsert = Randomness.nextChar();
 				String newStr = oldString + delimiterStr + charToInsert;
 				strVar.setConcreteValue(newStr);
-				double newDist = DistanceEstimator.getDistance(cnstr);
+				double newDist = getDistance();
 				log.debug("Adding: " + newStr + ": " + newDist);
 				if (distImpr(newDist)) {
 					improvement = true;
@@ -210,7 +209,7 @@ final class StringAVM extends VariableAVM {
 	 * @return
 	 */
 	private boolean doCharacterAVM(int position) throws SolverTimeoutException {
-		checkpointVar(DistanceEstimator.getDistance(cnstr));
+		checkpointVar(getDistance());
 		boolean done = false;
 		boolean hasImproved = false;
 
@@ -232,7 +231,7 @@ final class StringAVM extends VariableAVM {
 			characters[position] = replacement;
 			String newString = new String(characters);
 			strVar.setConcreteValue(newString);
-			double newDist = DistanceEstimator.getDistance(cnstr);
+			double newDist = getDistance();
 			log.debug("Probing increment " + position + ": " + newString + ": " + newDist + " replacement = "
 					+ (int) replacement);
 			if (distImpr(newDist)) {
@@ -248,7 +247,7 @@ final class StringAVM extends VariableAVM {
 				characters[position] = replacement;
 				newString = new String(characters);
 				strVar.setConcreteValue(newString);
-				newDist = DistanceEstimator.getDistance(cnstr);
+				newDist = getDistance();
 				log.debug("Probing decrement " + position + ": " + newString + ": " + newDist + " replacement = "
 						+ (int) replacement);
 				if (distImpr(newDist)) {
@@ -267,7 +266,7 @@ final class StringAVM extends VariableAVM {
 					characters[position] = replacement;
 					newString = new String(characters);
 					strVar.setConcreteValue(newString);
-					newDist = DistanceEstimator.getDistance(cnstr);
+					newDist = getDistance();
 					log.debug("Probing increment [32] " + position + ": " + newString + ": " + newDist
 							+ " replacement = " + (int) replacement);
 					if (distImpr(newDist)) {
@@ -283,7 +282,7 @@ final class StringAVM extends VariableAVM {
 						characters[position] = replacement;
 						newString = new String(characters);
 						strVar.setConcreteValue(newString);
-						newDist = DistanceEstimator.getDistance(cnstr);
+						newDist = getDistance();
 						log.debug("Probing increment [32] " + position + ": " + newString + ": " + newDist
 								+ " replacement = " + (int) replacement);
 						if (distImpr(newDist)) {
@@ -347,7 +346,7 @@ final class StringAVM extends VariableAVM {
 		characters[position] = replacement;
 		String newString = new String(characters);
 		strVar.setConcreteValue(newString);
-		double newDist = DistanceEstimator.getDistance(cnstr);
+		double newDist = getDistance();
 
 		while (distImpr(newDist)) {
 			if (isFinished()) {
@@ -369,7 +368,7 @@ final class StringAVM extends VariableAVM {
 			log.info(" " + position + " " + oldString + "/" + oldString.length() + " -> " + newString + "/"
 					+ newString.length());
 			strVar.setConcreteValue(newString);
-			newDist = DistanceEstimator.getDistance(cnstr);
+			newDist = getDistance();
 		}
 		log.debug("No improvement on " + oldString);
 		restoreVar();
@@ -22,20 +22,37 @@ package org.evosuite.symbolic.solver.avm;
 import java.util.Collection;
 
 import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.Variable;
 import org.evosuite.symbolic.solver.SolverTimeoutException;
 
 abstract class VariableAVM {
 
 	protected final Collection<Constraint<?>> cnstr;
+	private final IncrementalDistanceEstimator distanceEstimator;
+	private final Variable<?> variable;
 	private final long start_time;
 	private final long timeout;
 
-	public VariableAVM(Collection<Constraint<?>> cnstr, long startTimeMillis, long timeout) {
-		this.cnstr = cnstr;
+	public VariableAVM(Variable<?> variable, IncrementalDistanceEstimator distanceEstimator, long startTimeMillis,
+			long timeout) {
+		this.variable = variable;
+		this.distanceEstimator = distanceEstimator;
+		this.cnstr = distanceEstimator.getConstraints();
 		this.start_time = startTimeMillis;
 		this.timeout = timeout;
 	}
 
+	/**
+	 * Computes the distance of the constraint system after the concrete value
+	 * of the variable under search changed. Only the constraints in which the
+	 * variable appears are evaluated again.
+	 * 
+	 * @return the distance of the whole constraint system
+	 */
+	protected double getDistance() {
+		return distanceEstimator.updateDistance(variable);
+	}
+
 	protected boolean isFinished() {
 		long current_time = System.currentTimeMillis();
 		return (current_time - start_time) > timeout;
@@ -109,6 +109,16 @@ public class TestCaseMinimizer {
 	 * Central minimization function. Loop and try to remove until all
 	 * statements have been checked.
 	 * 
+	 * <p>
+	 * First, chunks of consecutive statements are deleted at once, starting
+	 * with half of the test and halving the chunk size each round (as in
+	 * delta debugging), so that a long test with few relevant statements does
+	 * not need to be executed once per statement. Then, statements are
+	 * visited one by one from the last to the first. After a successful
+	 * deletion the same pass continues with the previous statement, instead
+	 * of starting again from the end of the test. Passes are repeated until
+	 * no statement can be deleted.
+	 * 
 	 * @param c
 	 *            a {@link org.evosuite.testcase.TestChromosome} object.
 	 */
@@ -132,6 +142,52 @@ public class TestCaseMinimizer {
 			return;
 		}
 		
+		for (int chunkSize = c.test.size() / 2; chunkSize > 1; chunkSize /= 2) {
+			int end = c.test.size();
+			while (end > 0) {
+				int start = Math.max(0, end - chunkSize);
+				if (isTimeoutReached()) {
+					logger.debug("Timeout reached before minimizing statements {} to {}", start, end - 1);
+					return;
+				}
+
+				logger.debug("Deleting statements {} to {}", start, end - 1);
+				TestChromosome copy = (TestChromosome) c.clone();
+				boolean modified;
+				try {
+					modified = deleteStatements(c.test, start, end);
+				} catch (ConstructionFailedException e) {
+					modified = false;
+				}
+
+				if (!modified) {
+					c.setChanged(false);
+					c.test = copy.test;
+					logger.debug("Deleting failed");
+					end = start;
+					continue;
+				}
+
+				c.setChanged(true);
+
+				if (isTimeoutReached()) {
+					logger.debug("Keeping original version due to timeout");
+					restoreTestCase(c, copy);
+					return;
+				}
+
+				if (!isWorse(fitnessFunction, copy, c)) {
+					logger.debug("Keeping shorter version");
+					// deleting a statement can also delete statements before it
+					end = Math.min(start, c.test.size());
+				} else {
+					logger.debug("Keeping original version");
+					restoreTestCase(c, copy);
+					end = start;
+				}
+			}
+		}
+
 		boolean changed = true;
 
 		while (changed) {
@@ -170,7 +226,9 @@ public class TestCaseMinimizer {
 				if (! isWorse(fitnessFunction, copy, c)) {
 					logger.debug("Keeping shorter version");
 					changed = true;
-					break;
+					// deleting a statement can also delete statements before it,
+					// eg the one binding an input variable
+					i = Math.min(i, c.test.size());
 				} else {
 					logger.debug("Keeping original version");
 					restoreTestCase(c, copy);
@@ -202,6 +260,25 @@ public class TestCaseMinimizer {
 
 	}
 
+	/**
+	 * Delete the statements from position start (inclusive) to end (exclusive),
+	 * from the last to the first
+	 * 
+	 * @return true if the test was changed
+	 * @throws ConstructionFailedException
+	 */
+	private static boolean deleteStatements(TestCase test, int start, int end)
+	        throws ConstructionFailedException {
+		boolean modified = false;
+		for (int i = end - 1; i >= start; i--) {
+			// previous deletions might have removed this statement already
+			if (i < test.size()) {
+				modified |= TestFactory.getInstance().deleteStatementGracefully(test, i);
+			}
+		}
+		return modified;
+	}
+
 	private static void restoreTestCase(TestChromosome c, TestChromosome copy) {
 		c.test = copy.test;
 		c.copyCachedResults(copy);
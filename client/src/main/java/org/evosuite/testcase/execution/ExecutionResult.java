@@ -100,6 +100,12 @@ public class ExecutionResult implements Cloneable {
 	// experiment .. tried to remember intermediately calculated ControlFlowDistances .. no real speed up
 	//	public Map<Branch, ControlFlowDistance> intermediateDistances;
 
+	/**
+	 * Finished method calls of the trace by class and method name. Built on
+	 * first use, as every branch goal only looks at the calls of its own method
+	 */
+	private Map<String, Map<String, List<MethodCall>>> methodCallsByMethod;
+
 	/**
 	 * Default constructor when executing without mutation
 	 * 
@@ -284,6 +290,38 @@ public class ExecutionResult implements Cloneable {
 			throw new IllegalArgumentException("Trace cannot be null");
 		}
 		this.trace = trace;
+		this.methodCallsByMethod = null;
+	}
+
+	/**
+	 * The calls of the given method in the trace, in the same order as in
+	 * {@link ExecutionTrace#getMethodCalls()}
+	 * 
+	 * @param className
+	 * @param methodName
+	 * @return
+	 */
+	public List<MethodCall> getMethodCalls(String className, String methodName) {
+		if (methodCallsByMethod == null) {
+			methodCallsByMethod = new HashMap<String, Map<String, List<MethodCall>>>();
+			for (MethodCall call : trace.getMethodCalls()) {
+				Map<String, List<MethodCall>> callsOfClass = methodCallsByMethod.get(call.className);
+				if (callsOfClass == null) {
+					callsOfClass = new HashMap<String, List<MethodCall>>();
+					methodCallsByMethod.put(call.className, callsOfClass);
+				}
+				List<MethodCall> calls = callsOfClass.get(call.methodName);
+				if (calls == null) {
+					calls = new ArrayList<MethodCall>();
+					callsOfClass.put(call.methodName, calls);
+				}
+				calls.add(call);
+			}
+		}
+		Map<String, List<MethodCall>> callsOfClass = methodCallsByMethod.get(className);
+		if (callsOfClass == null || !callsOfClass.containsKey(methodName))
+			return Collections.emptyList();
+		return callsOfClass.get(methodName);
 	}
 
 	/**
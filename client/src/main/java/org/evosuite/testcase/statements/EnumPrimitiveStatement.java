@@ -176,7 +176,8 @@ public class EnumPrimitiveStatement<T extends Enum<T>> extends PrimitiveStatemen
 		}
 
 		value = constants[pos];
-		EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.ENUM, String.valueOf(value)));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.ENUM, String.valueOf(value)));
 	}
 
 	/* (non-Javadoc)
@@ -208,7 +209,8 @@ public class EnumPrimitiveStatement<T extends Enum<T>> extends PrimitiveStatemen
 		if (constants.length > 1) {
 			int pos = Randomness.nextInt(constants.length);
 			value = constants[pos];
-			EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.ENUM, String.valueOf(value)));
+			if (EventSequence.isEnabled())
+				EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.ENUM, String.valueOf(value)));
 		}
 	}
 
@@ -211,7 +211,8 @@ public class StringPrimitiveStatement extends PrimitiveStatement<String> {
 		}
 		value = s;
 		// logger.info("Mutated string now is: "+value);
-		EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.STRING, String.valueOf(value), oldValue));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.STRING, String.valueOf(value), oldValue));
 	}
 
 	/* (non-Javadoc)
@@ -223,7 +224,7 @@ public class StringPrimitiveStatement extends PrimitiveStatement<String> {
 	 * </p>
 	 */
 	public void increment() {
-		String oldValue = String.valueOf(value);
+		String oldValue = EventSequence.isEnabled() ? String.valueOf(value) : null;
 		String s = value;
 		if(s == null) {
 			randomize();
@@ -236,7 +237,8 @@ public class StringPrimitiveStatement extends PrimitiveStatement<String> {
 		}
 
 		value = s;
-		EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.STRING, String.valueOf(value), oldValue));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.STRING, String.valueOf(value), oldValue));
 	}
 
 	/* (non-Javadoc)
@@ -247,7 +249,8 @@ public class StringPrimitiveStatement extends PrimitiveStatement<String> {
 	public void randomize() {
 		if (Randomness.nextDouble() >= Properties.PRIMITIVE_POOL) {
 			value = Randomness.nextString(Randomness.nextInt(Properties.STRING_LENGTH));
-			EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.STRING, String.valueOf(value)));			
+			if (EventSequence.isEnabled())
+				EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.STRING, String.valueOf(value)));
 		}
 		else {
 			ConstantPool constantPool = ConstantPoolManager.getInstance().getConstantPool(BranchSeedInfo.STRING);
@@ -101,10 +101,11 @@ public class BytePrimitiveStatement extends NumericalPrimitiveStatement<Byte> {
 	/** {@inheritDoc} */
 	@Override
 	public void delta() {
-		String oldValue = String.valueOf(value);
+		String oldValue = EventSequence.isEnabled() ? String.valueOf(value) : null;
 		byte delta = (byte)Math.floor(Randomness.nextGaussian() * Properties.MAX_DELTA);
 		value = (byte) (value.byteValue() + delta);
-		EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.BYTE, String.valueOf(value), oldValue));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.BYTE, String.valueOf(value), oldValue));
 	}
 
 	/* (non-Javadoc)
@@ -124,7 +125,8 @@ public class BytePrimitiveStatement extends NumericalPrimitiveStatement<Byte> {
 	public void randomize() {
 		if (Randomness.nextDouble() >= Properties.PRIMITIVE_POOL) {
 			value = (byte) (Randomness.nextInt(256) - 128);
-			EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.BYTE, String.valueOf(value)));			
+			if (EventSequence.isEnabled())
+				EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.BYTE, String.valueOf(value)));
 		}
 		else {
 			ConstantPool constantPool = ConstantPoolManager.getInstance().getConstantPool(BranchSeedInfo.BYTE);
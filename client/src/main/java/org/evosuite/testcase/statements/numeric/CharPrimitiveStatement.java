@@ -79,10 +79,11 @@ public class CharPrimitiveStatement extends NumericalPrimitiveStatement<Characte
 	/** {@inheritDoc} */
 	@Override
 	public void delta() {
-		String oldValue = String.valueOf(value);
+		String oldValue = EventSequence.isEnabled() ? String.valueOf(value) : null;
 		int delta = Randomness.nextInt(2 * Properties.MAX_DELTA) - Properties.MAX_DELTA;
 		value = (char) (value.charValue() + delta);
-		EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.INT, String.valueOf(value), oldValue));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.INT, String.valueOf(value), oldValue));
 	}
 
 	/* (non-Javadoc)
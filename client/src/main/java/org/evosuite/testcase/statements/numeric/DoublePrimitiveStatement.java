@@ -89,7 +89,7 @@ public class DoublePrimitiveStatement extends NumericalPrimitiveStatement<Double
 	/** {@inheritDoc} */
 	@Override
 	public void delta() {
-		String oldValue = String.valueOf(value);
+		String oldValue = EventSequence.isEnabled() ? String.valueOf(value) : null;
 		double P = Randomness.nextDouble();
 		if(P < 1d/3d) {
 			value += Randomness.nextGaussian() * Properties.MAX_DELTA;
@@ -99,7 +99,8 @@ public class DoublePrimitiveStatement extends NumericalPrimitiveStatement<Double
 			int precision = Randomness.nextInt(15);
 			chopPrecision(precision);
 		}
-		EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.INT, String.valueOf(value), oldValue));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.INT, String.valueOf(value), oldValue));
 	}
 
 	/* (non-Javadoc)
@@ -138,7 +139,8 @@ public class DoublePrimitiveStatement extends NumericalPrimitiveStatement<Double
 			value = Randomness.nextGaussian() * Properties.MAX_INT;
 			int precision = Randomness.nextInt(15);
 			chopPrecision(precision);
-			EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.DOUBLE, String.valueOf(value)));
+			if (EventSequence.isEnabled())
+				EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.DOUBLE, String.valueOf(value)));
 		}
 		else {
 			ConstantPool constantPool = ConstantPoolManager.getInstance().getConstantPool(BranchSeedInfo.DOUBLE);
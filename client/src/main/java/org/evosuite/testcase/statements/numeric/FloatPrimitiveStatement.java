@@ -89,7 +89,7 @@ public class FloatPrimitiveStatement extends NumericalPrimitiveStatement<Float>
 	/** {@inheritDoc} */
 	@Override
 	public void delta() {
-		String oldValue = String.valueOf(value);
+		String oldValue = EventSequence.isEnabled() ? String.valueOf(value) : null;
 		double P = Randomness.nextDouble();
 		if(P < 1d/3d) {
 			value += (float)Randomness.nextGaussian() * Properties.MAX_DELTA;
@@ -99,7 +99,8 @@ public class FloatPrimitiveStatement extends NumericalPrimitiveStatement<Float>
 			int precision = Randomness.nextInt(7);
 			chopPrecision(precision);
 		}
-		EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.FLOAT, String.valueOf(value), oldValue));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.FLOAT, String.valueOf(value), oldValue));
 	}
 
 	private void chopPrecision(int precision) {
@@ -138,7 +139,8 @@ public class FloatPrimitiveStatement extends NumericalPrimitiveStatement<Float>
 			value = (float)(Randomness.nextGaussian() * Properties.MAX_INT);
 			int precision = Randomness.nextInt(7);
 			chopPrecision(precision);
-			EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.FLOAT, String.valueOf(value)));
+			if (EventSequence.isEnabled())
+				EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.FLOAT, String.valueOf(value)));
 		}
 		else {
 			ConstantPool constantPool = ConstantPoolManager.getInstance().getConstantPool(BranchSeedInfo.FLOAT);
@@ -86,10 +86,11 @@ public class LongPrimitiveStatement extends NumericalPrimitiveStatement<Long> {
 	/** {@inheritDoc} */
 	@Override
 	public void delta() {
-		String oldValue = String.valueOf(value);
+		String oldValue = EventSequence.isEnabled() ? String.valueOf(value) : null;
 		long delta = (long)Math.floor(Randomness.nextGaussian() * Properties.MAX_DELTA);
 		value = value + delta;
-		EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.LONG, String.valueOf(value), oldValue));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.LONG, String.valueOf(value), oldValue));
 	}
 
 	/* (non-Javadoc)
@@ -109,7 +110,8 @@ public class LongPrimitiveStatement extends NumericalPrimitiveStatement<Long> {
 	public void randomize() {
 		if (Randomness.nextDouble() >= Properties.PRIMITIVE_POOL) {
 			value = (long)(Randomness.nextGaussian() * Properties.MAX_INT);
-			EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.LONG, String.valueOf(value)));
+			if (EventSequence.isEnabled())
+				EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.LONG, String.valueOf(value)));
 		}
 		else {
 			ConstantPool constantPool = ConstantPoolManager.getInstance().getConstantPool(BranchSeedInfo.LONG);
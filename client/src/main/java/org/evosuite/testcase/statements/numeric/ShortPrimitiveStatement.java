@@ -86,10 +86,11 @@ public class ShortPrimitiveStatement extends NumericalPrimitiveStatement<Short>
 	/** {@inheritDoc} */
 	@Override
 	public void delta() {
-		String oldValue = String.valueOf(value);
+		String oldValue = EventSequence.isEnabled() ? String.valueOf(value) : null;
 		short delta = (short)Math.floor(Randomness.nextGaussian() * Properties.MAX_DELTA);
 		value = (short) (value.shortValue() + delta);
-		EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.SHORT, String.valueOf(value), oldValue));
+		if (EventSequence.isEnabled())
+			EventSequence.addEvent(new SearchEvent(System.currentTimeMillis(), SamplingDataType.SHORT, String.valueOf(value), oldValue));
 	}
 
 	/* (non-Javadoc)
@@ -110,7 +111,8 @@ public class ShortPrimitiveStatement extends NumericalPrimitiveStatement<Short>
 		short max = (short) Math.min(Properties.MAX_INT, 32767);
 		if (Randomness.nextDouble() >= Properties.PRIMITIVE_POOL) {
 			value = (short) ((Randomness.nextGaussian() * max));
-			EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.SHORT, String.valueOf(value)));
+			if (EventSequence.isEnabled())
+				EventSequence.addEvent(new RandomSamplingEvent(System.currentTimeMillis(), SamplingDataType.SHORT, String.valueOf(value)));
 		}
 		else {
 			ConstantPool constantPool = ConstantPoolManager.getInstance().getConstantPool(BranchSeedInfo.SHORT);
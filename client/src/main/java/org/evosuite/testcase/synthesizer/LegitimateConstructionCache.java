@@ -0,0 +1,95 @@
+package org.evosuite.testcase.synthesizer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.evosuite.graphs.interprocedural.var.DepVariable;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.PrimitiveStatement;
+import org.evosuite.testcase.statements.Statement;
+import org.evosuite.testcase.synthesizer.var.DepVariableWrapper;
+import org.evosuite.utils.LRUCache;
+import org.evosuite.utils.generic.GenericAccessibleObject;
+
+/**
+ * Legitimate tests evolved by {@link TestCaseLegitimizer}, keyed by the construction
+ * statements of the synthesized test they were evolved from and by the fields the 
+ * target branch depends on, see {@link #getKey(TestCase, PartialGraph)}.
+ * 
+ * The cache is kept apart from the legitimizer, so that it can be cleared when the 
+ * context is reset without creating the legitimizer.
+ */
+public class LegitimateConstructionCache {
+
+	private static final int CACHE_SIZE = 1000;
+	
+	private static final LRUCache<String, TestCase> cache = new LRUCache<>(CACHE_SIZE);
+	
+	public static TestCase get(String key) {
+		return cache.get(key);
+	}
+	
+	public static void put(String key, TestCase test) {
+		cache.put(key, test);
+	}
+	
+	public static void remove(String key) {
+		cache.remove(key);
+	}
+	
+	public static void clear() {
+		cache.clear();
+	}
+	
+	/**
+	 * Tests synthesized for different branches (or methods) often share the same setup,
+	 * only the primitive values differ. Thus, the key abstracts primitive statements to
+	 * their type and keeps all other statements. As the code of a statement only uses 
+	 * simple class names, the fully qualified types of the statement are added to it.
+	 */
+	public static String getKey(TestCase test, PartialGraph graph) {
+		StringBuilder key = new StringBuilder();
+		for(String field: getTargetFields(graph)) {
+			key.append(field);
+		}
+		
+		for(int i=0; i<test.size(); i++) {
+			Statement statement = test.getStatement(i);
+			if(statement instanceof PrimitiveStatement) {
+				key.append(statement.getReturnType().getTypeName());
+			}
+			else {
+				key.append(statement.getCode());
+				key.append(" : ");
+				key.append(statement.getReturnType().getTypeName());
+				GenericAccessibleObject<?> accessibleObject = statement.getAccessibleObject();
+				if(accessibleObject != null) {
+					key.append(" : ");
+					key.append(accessibleObject.getOwnerClass().getClassName());
+					key.append(" ");
+					key.append(accessibleObject);
+				}
+			}
+			key.append("\n");
+		}
+		return key.toString();
+	}
+	
+	private static List<String> getTargetFields(PartialGraph graph) {
+		List<String> fields = new ArrayList<>();
+		if(graph == null) {
+			return fields;
+		}
+		
+		for(DepVariableWrapper node: graph.getNodes()) {
+			int type = node.var.getType();
+			if(type == DepVariable.INSTANCE_FIELD || type == DepVariable.STATIC_FIELD) {
+				fields.add(node.var.getUniqueLabel());
+			}
+		}
+		// the nodes of the graph are not ordered
+		Collections.sort(fields);
+		return fields;
+	}
+}
@@ -86,6 +86,13 @@ public class TestCaseLegitimizer {
 		
 		double legitimacyDistance = testChromosome.getLegitimacyDistance();
 		if(legitimacyDistance == 0) return testChromosome;
+		
+		String constructionKey = null;
+		if(Properties.LEGITIMIZATION_CACHE) {
+			constructionKey = LegitimateConstructionCache.getKey(test, graph);
+			TestChromosome reused = reuseLegitimateConstruction(constructionKey, testChromosome);
+			if(reused != null) return reused;
+		}
 		/**
 		 * initializing the population
 		 */
@@ -109,7 +116,72 @@ public class TestCaseLegitimizer {
 			MutationPositionDiscriminator.discriminator.decreaseFrozenIteration();
 		}
 		
-		return population.get(0);
+		TestChromosome best = population.get(0);
+		if(constructionKey != null && legitimacyDistance == 0) {
+			LegitimateConstructionCache.put(constructionKey, best.getTestCase().clone());
+		}
+		
+		return best;
+	}
+	
+	/**
+	 * return null if there is no cached test for the key, or if the cached test 
+	 * is no longer legitimate.
+	 * 
+	 * The cached test comes with the primitive values that made it legitimate. The 
+	 * values of the synthesized test are kept for the primitive statements it did 
+	 * not execute, as they did not make it illegitimate, if the cached test is 
+	 * still legitimate with them. Otherwise, the cached values are used.
+	 */
+	private TestChromosome reuseLegitimateConstruction(String constructionKey, TestChromosome synthesized) {
+		TestCase cachedTest = LegitimateConstructionCache.get(constructionKey);
+		if(cachedTest == null) return null;
+		
+		TestCase test = cachedTest.clone();
+		if(copyUnexecutedPrimitiveValues(synthesized, test)) {
+			TestChromosome reused = new TestChromosome();
+			reused.setTestCase(test);
+			if(reused.getLegitimacyDistance() == 0) {
+				return reused;
+			}
+		}
+		
+		TestChromosome reused = new TestChromosome();
+		reused.setTestCase(cachedTest.clone());
+		if(reused.getLegitimacyDistance() != 0) {
+			LegitimateConstructionCache.remove(constructionKey);
+			return null;
+		}
+		
+		return reused;
+	}
+	
+	/**
+	 * return true if at least one value of <code>target</code> was changed. 
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private boolean copyUnexecutedPrimitiveValues(TestChromosome source, TestCase target) {
+		TestCase test = source.getTestCase();
+		if(source.getLastExecutionResult() == null || test.size() != target.size()) {
+			return false;
+		}
+		
+		boolean copied = false;
+		int firstUnexecuted = source.getLastExecutionResult().getExecutedStatements() + 1;
+		for(int i=firstUnexecuted; i<test.size(); i++) {
+			Statement from = test.getStatement(i);
+			Statement to = target.getStatement(i);
+			if(from instanceof PrimitiveStatement && to instanceof PrimitiveStatement
+					&& from.getReturnType().equals(to.getReturnType())) {
+				Object value = ((PrimitiveStatement)from).getValue();
+				PrimitiveStatement pStatement = (PrimitiveStatement)to;
+				if(value == null ? pStatement.getValue() != null : !value.equals(pStatement.getValue())) {
+					pStatement.setValue(value);
+					copied = true;
+				}
+			}
+		}
+		return copied;
 	}
 
 
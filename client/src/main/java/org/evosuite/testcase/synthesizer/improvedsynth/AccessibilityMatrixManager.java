@@ -5,13 +5,16 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.Stack;
 
-import org.ejml.simple.SimpleMatrix;
 import org.evosuite.graphs.cfg.BytecodeInstruction;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.synthesizer.PartialGraph;
@@ -31,8 +34,9 @@ public class AccessibilityMatrixManager {
 	// Also equivalent to the number of nodes in the partial graph.
 	private int size;
 	
-	// The backing matrix, uses EJML.
-	private SimpleMatrix internalMatrix;
+	// The backing matrix, one row of set bits per node.
+	// The matrix is sparse as nodes can only access their descendants.
+	private BitSet[] internalMatrix;
 	
 	// Internal mappings between OCG nodes and matrix row/column indices.
 	private Map<DepVariableWrapper, Integer> nodeToIndex = new HashMap<>();
@@ -44,8 +48,9 @@ public class AccessibilityMatrixManager {
 	// should always have node list of length 2 and a single operation (operations list of length 1).
 	private Map<NodePair, ConstructionPath> nodesToPath = new HashMap<>();
 	
-	// Cache previously computed powers of the internalMatrix.
-	private Map<Integer, SimpleMatrix> powerCache = new HashMap<>();
+	// Cache previously computed shortest path lengths, one BFS per source node index.
+	// An entry of -1 means that the node at that index is not reachable from the source.
+	private Map<Integer, int[]> shortestPathLengthCache = new HashMap<>();
 	
 	// Cache previously computed descendants
 	private Map<DepVariableWrapper, List<DepVariableWrapper>> nodeToDescendants = new HashMap<>();
@@ -94,7 +99,10 @@ public class AccessibilityMatrixManager {
 		}		
 		
 		this.size = partialGraph.getNodes().size();
-		this.internalMatrix = new SimpleMatrix(this.size, this.size);
+		this.internalMatrix = new BitSet[this.size];
+		for (int i = 0; i < size; i++) {
+			this.internalMatrix[i] = new BitSet(this.size);
+		}
 		
 		buildNodeIndexMappings(partialGraph);
 		
@@ -104,20 +112,23 @@ public class AccessibilityMatrixManager {
 		}
 		
 		// Generate the accessibility matrix entries for each node
+		// Nodes shared by several parents are only processed once
+		Set<DepVariableWrapper> visitedNodes = new HashSet<>();
 		Queue<DepVariableWrapper> queue = new ArrayDeque<>();
 		for (DepVariableWrapper topLayerNode : partialGraph.getTopLayer()) {
 			queue.offer(topLayerNode);
 		}
 		while (!queue.isEmpty()) {
 			DepVariableWrapper node = queue.poll();
+			if (!visitedNodes.add(node)) {
+				continue;
+			}
 			generateAccessibilityMatrixEntriesFor(node);
 			for (DepVariableWrapper childNode : node.children) {
 				queue.offer(childNode);
 			}
 		}
 		
-		powerCache.put(1, internalMatrix);
-		
 		isInitialised = true;
 	}
 
@@ -444,15 +455,11 @@ public class AccessibilityMatrixManager {
 	}
 	
 	private void _unsafeSet(int rowIndex, int colIndex, boolean value) {
-		internalMatrix.set(rowIndex, colIndex, value ? 1 : 0);
+		internalMatrix[rowIndex].set(colIndex, value);
 	}
 	
 	private boolean _unsafeGet(int rowIndex, int colIndex) {
-		return internalMatrix.get(rowIndex, colIndex) == 1;
-	}
-	
-	private boolean _unsafeGet(SimpleMatrix matrix, int rowIndex, int colIndex) {
-		return matrix.get(rowIndex, colIndex) == 1;
+		return internalMatrix[rowIndex].get(colIndex);
 	}
 	
 	private int _getIndexFor(DepVariableWrapper node) {		
@@ -502,6 +509,10 @@ public class AccessibilityMatrixManager {
 		Integer toNodeIndex = _getIndexFor(toNode);
 		
 		_unsafeSet(fromNodeIndex, toNodeIndex, value);
+		
+		// Previously computed paths and neighbours may no longer hold
+		shortestPathLengthCache.clear();
+		nodeToNeighbours.clear();
 	}
 	
 	/**
@@ -538,14 +549,41 @@ public class AccessibilityMatrixManager {
 		return new ArrayList<>(descendants); // Defensive copy
 	}
 	
-	private SimpleMatrix getPower(int exponent) {
-		if (powerCache.containsKey(exponent)) {
-			return powerCache.get(exponent);
+	/**
+	 * Runs a BFS over the accessibility matrix from the given node index.
+	 * @param fromIndex The index of the source node.
+	 * @return The length of the shortest path to each node index, -1 if there is none.
+	 */
+	private int[] getShortestPathLengthsFrom(int fromIndex) {
+		int[] lengths = shortestPathLengthCache.get(fromIndex);
+		if (lengths != null) {
+			return lengths;
+		}
+		
+		lengths = new int[size];
+		Arrays.fill(lengths, -1);
+		lengths[fromIndex] = 0;
+		
+		BitSet visited = new BitSet(size);
+		visited.set(fromIndex);
+		int[] queue = new int[size];
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = fromIndex;
+		while (head < tail) {
+			int index = queue[head++];
+			BitSet row = internalMatrix[index];
+			for (int next = row.nextSetBit(0); next >= 0; next = row.nextSetBit(next + 1)) {
+				if (!visited.get(next)) {
+					visited.set(next);
+					lengths[next] = lengths[index] + 1;
+					queue[tail++] = next;
+				}
+			}
 		}
 		
-		SimpleMatrix matrixToExponent = getPower(exponent - 1).mult(internalMatrix);
-		powerCache.put(exponent, matrixToExponent);
-		return matrixToExponent;
+		shortestPathLengthCache.put(fromIndex, lengths);
+		return lengths;
 	}
 	
 	/**
@@ -561,14 +599,7 @@ public class AccessibilityMatrixManager {
 			return 0;
 		}
 		
-		for (int i = 1; i <= size; i++) {
-			boolean isPathOfLengthIExists = getPower(i).get(_getIndexFor(fromNode), _getIndexFor(toNode)) > 0;
-			if (isPathOfLengthIExists) {
-				return i;
-			}
-		}
-		
-		return -1;
+		return getShortestPathLengthsFrom(_getIndexFor(fromNode))[_getIndexFor(toNode)];
 	}
 	
 	/**
@@ -162,6 +162,26 @@ public class TestSuiteMinimizer {
         if (Properties.MINIMIZE_SORT)
             Collections.sort(goals);
 
+        /*
+         * Goals covered by each test, computed once. A minimized test can then
+         * be checked against the goals its original test covered, rather than
+         * against all goals
+         */
+        Map<TestChromosome, Set<TestFitnessFunction>> goalsCoveredByTest = new IdentityHashMap<TestChromosome, Set<TestFitnessFunction>>();
+        for (TestChromosome test : suite.getTestChromosomes()) {
+            if (isTimeoutReached()) {
+                logger.warn("Minimization timeout. Roll back to original test suite");
+                return;
+            }
+            Set<TestFitnessFunction> testGoals = new LinkedHashSet<TestFitnessFunction>();
+            for (TestFitnessFunction goal : goals) {
+                if (goal.isCovered(test)) {
+                    testGoals.add(goal);
+                }
+            }
+            goalsCoveredByTest.put(test, testGoals);
+        }
+
         Set<TestFitnessFunction> covered = new LinkedHashSet<TestFitnessFunction>();
         List<TestChromosome> minimizedTests = new ArrayList<TestChromosome>();
         TestSuiteWriter minimizedSuite = new TestSuiteWriter();
@@ -201,7 +221,7 @@ public class TestSuiteMinimizer {
 
             List<TestChromosome> coveringTests = new ArrayList<TestChromosome>();
             for (TestChromosome test : suite.getTestChromosomes()) {
-                if (goal.isCovered(test)) {
+                if (goalsCoveredByTest.get(test).contains(goal)) {
                     coveringTests.add(test);
                 }
             }
@@ -221,7 +241,7 @@ public class TestSuiteMinimizer {
                 copy.getTestCase().clearCoveredGoals();
 
                 // Add ALL goals covered by the minimized test
-                for (TestFitnessFunction g : goals) {
+                for (TestFitnessFunction g : goalsCoveredByTest.get(test)) {
                     if (g.isCovered(copy)) { // isCovered(copy) adds the goal
                         covered.add(g);
                         logger.info("Goal covered by minimized test: " + g);
@@ -33,51 +33,60 @@ import java.util.List;
 
 /**
  * Created by Andrea Arcuri on 08/06/15.
+ *
+ * <p>
+ * Tests are stored as a header (magic number and format version) followed by
+ * an object stream with the number of tests and then one {@link TestChromosome}
+ * after the other.
+ * A test referring to a class that cannot be loaded any more (eg, because the SUT changed)
+ * is skipped, as the object stream stays consistent in that case. Any other problem
+ * stops the loading, but the tests read so far are still returned.
+ * Files written without header by previous versions of EvoSuite can still be read.
  */
 public class TestSuiteSerialization {
 
     private static final Logger logger = LoggerFactory.getLogger(TestSuiteSerialization.class);
 
+    /**
+     * "EVOT" in ASCII. Cannot be confused with the 0xACED header of a plain object stream
+     */
+    static final int MAGIC = 0x45564F54;
+
+    static final int FORMAT_VERSION = 1;
+
 
     public static boolean saveTests(List<TestSuiteChromosome> list, File target) throws IllegalArgumentException{
         Inputs.checkNull(list,target);
 
-        File parent = target.getParentFile();
-        if(!parent.exists()){
-            parent.mkdirs();
+        List<TestChromosome> tests = new ArrayList<>();
+        for(TestSuiteChromosome ts : list) {
+            tests.addAll(ts.getTestChromosomes());
         }
-
-        try (ObjectOutputStream out = new DebuggingObjectOutputStream(new FileOutputStream(target));){
-            for(TestSuiteChromosome ts : list) {
-                for (TestChromosome tc : ts.getTestChromosomes()) {
-                    out.writeObject(tc);
-                }
-            }
-
-            out.flush();
-            out.close();
-        } catch (IOException e){
-            logger.error("Failed to open/handle "+target.getAbsolutePath()+" for writing: "+e.getMessage());
-            return false;
-        }
-
-        return true;
+        return writeTests(tests, target);
     }
     
     public static boolean saveTests(TestSuiteChromosome ts, File target) throws IllegalArgumentException{
+        Inputs.checkNull(ts,target);
+        return writeTests(ts.getTestChromosomes(), target);
+    }
+
+    private static boolean writeTests(List<TestChromosome> tests, File target) {
         File parent = target.getParentFile();
         if(!parent.exists()){
             parent.mkdirs();
         }
 
-        try(ObjectOutputStream out = new DebuggingObjectOutputStream(new FileOutputStream(target));){
-        	for (TestChromosome tc : ts.getTestChromosomes()) {
-        		out.writeObject(tc);
-            }
+        try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(target)))){
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
 
-            out.flush();
-            out.close();
-        }catch (IOException e){
+            ObjectOutputStream oos = new DebuggingObjectOutputStream(out);
+            oos.writeInt(tests.size());
+            for (TestChromosome tc : tests) {
+                oos.writeObject(tc);
+            }
+            oos.close();
+        } catch (IOException e){
             logger.error("Failed to open/handle "+target.getAbsolutePath()+" for writing: "+e.getMessage());
             return false;
         }
@@ -112,20 +121,68 @@ public class TestSuiteSerialization {
 
         List<TestChromosome> list = new ArrayList<>();
 
-        try(ObjectInputStream in = new ObjectInputStream(new FileInputStream(target)) ){
+        try(DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(target)))){
+
+            in.mark(4);
+            int magic = in.readInt();
+            if(magic != MAGIC){
+                in.reset();
+                readLegacyTests(in, target, list);
+                return list;
+            }
+
+            int version = in.readInt();
+            if(version != FORMAT_VERSION){
+                logger.warn("Cannot load tests from " + target.getAbsolutePath() + " as they have unsupported format version " + version);
+                return list;
+            }
+
+            ObjectInputStream ois = new ObjectInputStream(in);
+            int n = ois.readInt();
+            for(int i = 0; i < n; i++){
+                try {
+                    addTest(ois.readObject(), list);
+                } catch (ClassNotFoundException e) {
+                    //the stream is still consistent, so only this test is lost
+                    logger.warn("Problems when reading a serialized test from " + target.getAbsolutePath() + " : " + e.getMessage());
+                }
+            }
+        } catch (FileNotFoundException e) {
+            logger.warn("Cannot load tests because file does not exist: "+target.getAbsolutePath());
+        } catch (EOFException e) {
+            logger.warn("File " + target.getAbsolutePath() + " is truncated. Loaded " + list.size() + " tests");
+        } catch (IOException e) {
+            logger.error("Failed to open/handle " + target.getAbsolutePath() + " for reading: " + e.getMessage());
+        }
+
+        return list;
+    }
+
+    private static void addTest(Object obj, List<TestChromosome> list) {
+        if(obj instanceof TestChromosome){
+            TestChromosome tc = (TestChromosome) obj;
+            changeClassLoader(tc);
+            list.add(tc);
+        }
+    }
+
+    private static void changeClassLoader(TestChromosome tc) {
+        for(Statement st : tc.getTestCase()){
+            st.changeClassLoader(TestGenerationContext.getInstance().getClassLoaderForSUT());
+        }
+    }
+
+    /**
+     * Read tests stored as a single object stream, as done by previous versions of EvoSuite
+     */
+    private static void readLegacyTests(InputStream stream, File target, List<TestChromosome> list) throws IOException {
+        try(ObjectInputStream in = new ObjectInputStream(stream) ){
 
             try {
                 Object obj = in.readObject();
                 while(obj !=null){
-                    if(obj instanceof TestChromosome){
-                        //this check might fail if old version is used, and EvoSuite got updated
-                        TestChromosome tc = (TestChromosome) obj;
-                        for(Statement st : tc.getTestCase()){
-                            st.changeClassLoader(TestGenerationContext.getInstance().getClassLoaderForSUT());
-                        }
-
-                        list.add(tc);
-                    }
+                    //the type check might fail if old version is used, and EvoSuite got updated
+                    addTest(obj, list);
                     obj = in.readObject();
                 }
             } catch (EOFException e) {
@@ -133,14 +190,6 @@ public class TestSuiteSerialization {
             }catch (Exception e) {
                 logger.warn("Problems when reading a serialized test from " + target.getAbsolutePath() + " : " + e.getMessage());
             }
-
-            in.close();
-        } catch (FileNotFoundException e) {
-            logger.warn("Cannot load tests because file does not exist: "+target.getAbsolutePath());
-        } catch (IOException e) {
-            logger.error("Failed to open/handle " + target.getAbsolutePath() + " for reading: " + e.getMessage());
         }
-
-        return list;
     }
 }
@@ -46,6 +46,7 @@ import org.evosuite.Properties;
 import org.evosuite.TestGenerationContext;
 import org.evosuite.ga.ConstructionFailedException;
 import org.evosuite.seeding.CastClassManager;
+import org.evosuite.utils.LRUCache;
 import org.evosuite.utils.LoggingUtils;
 import org.evosuite.utils.ParameterizedTypeImpl;
 import org.slf4j.Logger;
@@ -73,6 +74,58 @@ public class GenericClass implements Serializable {
 	                      Integer.class, Long.class, Float.class, Double.class,
 	                      Void.class));
 
+	/**
+	 * Maximum number of entries in each of the caches of resolved types
+	 */
+	private static final int TYPE_CACHE_SIZE = 10000;
+
+	/**
+	 * Results of TypeUtils.isAssignable, which is expensive for generic types
+	 */
+	private static final LRUCache<TypePair, Boolean> assignableCache = new LRUCache<TypePair, Boolean>(
+	        TYPE_CACHE_SIZE);
+
+	/**
+	 * Type variable maps by type. The maps are copied in and out, as callers
+	 * are free to modify the map they get
+	 */
+	private static final LRUCache<Type, Map<TypeVariable<?>, Type>> typeVariableMapCache = new LRUCache<Type, Map<TypeVariable<?>, Type>>(
+	        TYPE_CACHE_SIZE);
+
+	private static final class TypePair {
+		private final Type lhsType;
+		private final Type rhsType;
+
+		TypePair(Type lhsType, Type rhsType) {
+			this.lhsType = lhsType;
+			this.rhsType = rhsType;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof TypePair))
+				return false;
+			TypePair other = (TypePair) obj;
+			return lhsType.equals(other.lhsType) && rhsType.equals(other.rhsType);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * lhsType.hashCode() + rhsType.hashCode();
+		}
+	}
+
+	/**
+	 * Forget all resolved types, e.g. because the classes of the SUT are
+	 * loaded anew
+	 */
+	public static void clearCaches() {
+		assignableCache.clear();
+		typeVariableMapCache.clear();
+	}
+
 	protected static Type addTypeParameters(Class<?> clazz) {
 		if (clazz.isArray()) {
 			return GenericArrayTypeImpl.createArrayType(addTypeParameters(clazz.getComponentType()));
@@ -179,7 +232,13 @@ public class GenericClass implements Serializable {
 					lhsType = bounds[0];
 				}
 			}
-			return TypeUtils.isAssignable(rhsType, lhsType);
+			TypePair key = new TypePair(lhsType, rhsType);
+			Boolean isAssignable = assignableCache.get(key);
+			if (isAssignable == null) {
+				isAssignable = TypeUtils.isAssignable(rhsType, lhsType);
+				assignableCache.put(key, isAssignable);
+			}
+			return isAssignable;
 		} catch (Throwable e) {
 			logger.debug("Found unassignable type: " + e);
 			return false;
@@ -919,6 +978,11 @@ public class GenericClass implements Serializable {
 	public Map<TypeVariable<?>, Type> getTypeVariableMap() {
 		if(typeVariableMap != null)
 			return typeVariableMap;
+		Map<TypeVariable<?>, Type> cachedMap = typeVariableMapCache.get(type);
+		if(cachedMap != null) {
+			typeVariableMap = new LinkedHashMap<TypeVariable<?>, Type>(cachedMap);
+			return typeVariableMap;
+		}
 		//logger.debug("Getting type variable map for " + type);
 		List<TypeVariable<?>> typeVariables = getTypeVariables();
 		List<Type> types = getParameterTypes();
@@ -958,6 +1022,7 @@ public class GenericClass implements Serializable {
 		}
 
 		//logger.debug("Type map: " + typeMap);
+		typeVariableMapCache.put(type, new LinkedHashMap<TypeVariable<?>, Type>(typeMap));
 		typeVariableMap = typeMap;
 		return typeMap;
 	}
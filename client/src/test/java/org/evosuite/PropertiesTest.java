@@ -21,6 +21,10 @@ package org.evosuite;
 
 import static org.junit.Assert.fail;
 
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import org.evosuite.Properties.Criterion;
 import org.evosuite.Properties.NoSuchParameterException;
 import org.junit.After;
 import org.junit.Assert;
@@ -100,4 +104,29 @@ public class PropertiesTest {
 		Properties.getInstance().resetToDefaults();
 		Assert.assertEquals(defaultValue,Properties.TARGET_CLASS);
 	}
+
+	@Test
+	public void testRestoreParameterValues() throws Exception{
+
+		final long budget = Properties.SEARCH_BUDGET;
+		final Criterion[] criteria = Properties.CRITERION.clone();
+		final Criterion other = criteria[0] == Criterion.EXCEPTION ? Criterion.LINE : Criterion.EXCEPTION;
+
+		Map<Field, Object> values = Properties.getParameterValues();
+		Object saved = values.get(Properties.class.getField("CRITERION"));
+		Assert.assertNotSame(Properties.CRITERION, saved);
+
+		Properties.SEARCH_BUDGET = budget + 100;
+		Properties.CRITERION[0] = other; //changing the array in place must not change the saved values
+
+		Properties.setParameterValues(values);
+		Assert.assertEquals(budget, Properties.SEARCH_BUDGET);
+		Assert.assertArrayEquals(criteria, Properties.CRITERION);
+
+		//the restored array is a copy, so changing it does not change the saved values
+		Assert.assertNotSame(saved, Properties.CRITERION);
+		Properties.CRITERION[0] = other;
+		Properties.setParameterValues(values);
+		Assert.assertArrayEquals(criteria, Properties.CRITERION);
+	}
 }
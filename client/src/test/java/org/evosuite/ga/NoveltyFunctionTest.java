@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class NoveltyFunctionTest {
+
+    /**
+     * Distance between the first genes of two individuals
+     */
+    private static class GeneDistance extends NoveltyFunction<DummyChromosome> {
+        @Override
+        public double getDistance(DummyChromosome individual1, DummyChromosome individual2) {
+            return Math.abs(individual1.get(0) - individual2.get(0));
+        }
+    }
+
+    /**
+     * Same distance as {@link GeneDistance}, computed on behaviour vectors
+     */
+    private static class GeneBehaviourDistance extends BehaviourNoveltyFunction<DummyChromosome> {
+        @Override
+        public double[] getBehaviour(DummyChromosome individual) {
+            return new double[] { individual.get(0) };
+        }
+
+        @Override
+        public double getDistance(double[] behaviour1, double[] behaviour2) {
+            return Math.abs(behaviour1[0] - behaviour2[0]);
+        }
+    }
+
+    private static List<DummyChromosome> getPopulation() {
+        return Arrays.asList(new DummyChromosome(0), new DummyChromosome(1), new DummyChromosome(3),
+                new DummyChromosome(7), new DummyChromosome(15));
+    }
+
+    private static void checkAllNeighbours(NoveltyFunction<DummyChromosome> function) {
+        List<DummyChromosome> population = getPopulation();
+        double[] novelty = function.getNovelty(population, 0);
+
+        assertEquals(population.size(), novelty.length);
+        for (int i = 0; i < population.size(); i++) {
+            assertEquals(function.getNovelty(population.get(i), population), novelty[i], 0.0);
+        }
+    }
+
+    @Test
+    public void testAllNeighboursSameAsSingleNovelty() {
+        checkAllNeighbours(new GeneDistance());
+    }
+
+    @Test
+    public void testAllNeighboursSameAsSingleNoveltyWithBehaviour() {
+        checkAllNeighbours(new GeneBehaviourDistance());
+    }
+
+    @Test
+    public void testTooManyNeighboursSameAsAllNeighbours() {
+        NoveltyFunction<DummyChromosome> function = new GeneDistance();
+        List<DummyChromosome> population = getPopulation();
+
+        double[] all = function.getNovelty(population, 0);
+        double[] tooMany = function.getNovelty(population, population.size() + 1);
+        for (int i = 0; i < population.size(); i++) {
+            assertEquals(all[i], tooMany[i], 0.0);
+        }
+    }
+
+    @Test
+    public void testNearestNeighbours() {
+        List<DummyChromosome> population = getPopulation();
+        // genes 0, 1, 3, 7, 15: mean of the two smallest distances of each individual
+        double[] expected = { (1 + 3) / 2.0, (1 + 2) / 2.0, (2 + 3) / 2.0, (4 + 6) / 2.0, (8 + 12) / 2.0 };
+
+        double[] novelty = new GeneDistance().getNovelty(population, 2);
+        double[] behaviourNovelty = new GeneBehaviourDistance().getNovelty(population, 2);
+        for (int i = 0; i < population.size(); i++) {
+            assertEquals(expected[i], novelty[i], 0.0);
+            assertEquals(expected[i], behaviourNovelty[i], 0.0);
+        }
+    }
+
+    @Test
+    public void testNearestNeighbourIgnoresSameIndividual() {
+        DummyChromosome individual = new DummyChromosome(5);
+        List<DummyChromosome> population = Arrays.asList(individual, individual, new DummyChromosome(6),
+                new DummyChromosome(10));
+
+        double[] novelty = new GeneBehaviourDistance().getNovelty(population, 1);
+
+        assertEquals(1.0, novelty[0], 0.0);
+        assertEquals(1.0, novelty[1], 0.0);
+        assertEquals(1.0, novelty[2], 0.0);
+        assertEquals(4.0, novelty[3], 0.0);
+    }
+}
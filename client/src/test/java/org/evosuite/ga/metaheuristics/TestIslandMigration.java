@@ -0,0 +1,151 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.evosuite.Properties;
+import org.evosuite.ga.Chromosome;
+import org.evosuite.ga.DummyChromosome;
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testsuite.TestSuiteChromosome;
+import org.junit.After;
+import org.junit.Test;
+
+public class TestIslandMigration {
+
+	private static final double DELTA = 0.0000000001;
+
+	/**
+	 * Like most suite fitness functions, it does not override equals, thus
+	 * two instances (e.g. one per client) are different keys.
+	 */
+	private static class ConstantFitness<T extends Chromosome> extends FitnessFunction<T> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final double value;
+
+		public ConstantFitness(double value) {
+			this.value = value;
+		}
+
+		@Override
+		public double getFitness(T individual) {
+			updateIndividual(this, individual, value);
+			return value;
+		}
+
+		@Override
+		public boolean isMaximizationFunction() {
+			return false;
+		}
+	}
+
+	@After
+	public void resetProperties() {
+		Properties.getInstance().resetToDefaults();
+	}
+
+	@Test
+	public void testEmigrantHasNoFitness() {
+		DummyChromosome individual = new DummyChromosome(1, 2, 3);
+		individual.addFitness(new ConstantFitness<DummyChromosome>(4.0), 4.0, 0.5, 3);
+		individual.setChanged(false);
+
+		DummyChromosome emigrant = new IslandMigration<DummyChromosome>().toEmigrant(individual);
+
+		assertEquals(individual, emigrant);
+		assertTrue(emigrant.getFitnessValues().isEmpty());
+		assertTrue(emigrant.getPreviousFitnessValues().isEmpty());
+		assertTrue(emigrant.getCoverageValues().isEmpty());
+		assertTrue(emigrant.getNumsOfCoveredGoals().isEmpty());
+		assertTrue(emigrant.getNumsNotCoveredGoals().isEmpty());
+		assertTrue(emigrant.isChanged());
+
+		// the individual staying on the island keeps its values
+		assertEquals(4.0, individual.getFitness(), DELTA);
+		assertEquals(0.5, individual.getCoverage(), DELTA);
+		assertEquals(3, individual.getNumOfCoveredGoals());
+	}
+
+	@Test
+	public void testImmigrantFitnessIsNotSummedWithSenderFitness() {
+		ConstantFitness<DummyChromosome> senderFitness = new ConstantFitness<>(4.0);
+		ConstantFitness<DummyChromosome> receiverFitness = new ConstantFitness<>(4.0);
+
+		DummyChromosome individual = new DummyChromosome(1, 2, 3);
+		senderFitness.getFitness(individual);
+		assertEquals(4.0, individual.getFitness(), DELTA);
+
+		DummyChromosome immigrant = new IslandMigration<DummyChromosome>().toEmigrant(individual);
+		receiverFitness.getFitness(immigrant);
+
+		assertEquals(1, immigrant.getFitnessValues().size());
+		assertEquals(4.0, immigrant.getFitness(), DELTA);
+	}
+
+	@Test
+	public void testSuiteEmigrantHasNoResultsAndFitness() {
+		TestChromosome test = new TestChromosome();
+		test.setTestCase(new DefaultTestCase());
+		test.setLastExecutionResult(new ExecutionResult(test.getTestCase()));
+		test.addFitness(new ConstantFitness<TestChromosome>(1.0), 1.0);
+
+		TestSuiteChromosome suite = new TestSuiteChromosome();
+		suite.addTests(Arrays.asList(test));
+		suite.addFitness(new ConstantFitness<TestSuiteChromosome>(2.0), 2.0, 0.5, 1);
+
+		TestSuiteChromosome emigrant = new IslandMigration<TestSuiteChromosome>().toEmigrant(suite);
+
+		assertEquals(1, emigrant.size());
+		assertTrue(emigrant.getFitnessValues().isEmpty());
+		assertTrue(emigrant.getCoverageValues().isEmpty());
+		TestChromosome emigrantTest = emigrant.getTestChromosome(0);
+		assertNull(emigrantTest.getLastExecutionResult());
+		assertTrue(emigrantTest.getFitnessValues().isEmpty());
+
+		assertEquals(2.0, suite.getFitness(), DELTA);
+		assertNotNull(suite.getTestChromosome(0).getLastExecutionResult());
+		assertEquals(1.0, suite.getTestChromosome(0).getFitness(), DELTA);
+	}
+
+	@Test
+	public void testDisabledWithSingleClient() {
+		Properties.NUM_PARALLEL_CLIENTS = 1;
+		Properties.MIGRANTS_ITERATION_FREQUENCY = 1;
+		IslandMigration<DummyChromosome> migration = new IslandMigration<>();
+
+		// neither call must reach the (non existing) client node
+		migration.start();
+		migration.emigrate(Arrays.asList(new DummyChromosome(1)), 0);
+		migration.stop();
+
+		assertTrue(migration.pollImmigrants().isEmpty());
+	}
+}
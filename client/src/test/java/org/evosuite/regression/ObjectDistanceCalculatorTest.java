@@ -239,6 +239,80 @@ public class ObjectDistanceCalculatorTest {
     assertEquals(0.0, getDistance(p, q), 0.001);
   }
 
+  @Test
+  public void objectDiff_PrimitiveFields() {
+    ClassWithPrimitiveFields p = new ClassWithPrimitiveFields();
+    ClassWithPrimitiveFields q = new ClassWithPrimitiveFields();
+    assertEquals(0.0, getDistance(p, q), Double.MIN_VALUE);
+
+    q.b = true;
+    assertEquals(0.125, getDistance(p, q), 0.001);
+
+    q.c = 'z';
+    assertEquals(0.749, getDistance(p, q), 0.001);
+
+    q.by = (byte) -5;
+    q.s = (short) 300;
+    assertEquals(1.228, getDistance(p, q), 0.001);
+
+    q.i = Integer.MIN_VALUE;
+    q.l = Long.MAX_VALUE;
+    assertEquals(1.561, getDistance(p, q), 0.001);
+
+    q.f = Float.NaN;
+    q.d = 1.5;
+    assertEquals(1.785, getDistance(p, q), 0.001);
+  }
+
+  @Test
+  public void objectDiff_PrimitiveFieldExtremes() {
+    ClassWithPrimitiveFields p = new ClassWithPrimitiveFields();
+    ClassWithPrimitiveFields q = new ClassWithPrimitiveFields();
+    p.i = 42;
+    q.i = 43;
+    assertEquals(0.5625, getDistance(p, q), 0.001);
+
+    p.l = Long.MIN_VALUE;
+    q.l = Long.MAX_VALUE;
+    assertEquals(0.792, getDistance(p, q), 0.001);
+
+    // cached fields are looked up again after clearing
+    ObjectDistanceCalculator.clearCaches();
+    assertEquals(0.792, getDistance(p, q), 0.001);
+  }
+
+  @Test
+  public void objectDiff_Cyclic() {
+    Node p = new Node(1);
+    p.next = p;
+    Node q = new Node(1);
+    q.next = q;
+    assertEquals(0.0, getDistance(p, q), Double.MIN_VALUE);
+
+    Node other = new Node(2);
+    other.next = other;
+    assertEquals(1.269, getDistance(p, other), 0.001);
+
+    Node ring = new Node(1);
+    ring.next = new Node(2);
+    ring.next.next = ring;
+    Node sameRing = new Node(1);
+    sameRing.next = new Node(2);
+    sameRing.next.next = sameRing;
+    assertEquals(0.0, getDistance(ring, sameRing), Double.MIN_VALUE);
+
+    sameRing.next.value = 5;
+    assertEquals(1.049, getDistance(ring, sameRing), 0.001);
+
+    assertEquals(0.966, getDistance(ring, p), 0.001);
+
+    Node longerRing = new Node(1);
+    longerRing.next = new Node(2);
+    longerRing.next.next = new Node(3);
+    longerRing.next.next.next = longerRing;
+    assertEquals(1.081, getDistance(longerRing, ring), 0.001);
+  }
+
   private NestedBasicObjectWithPublicFields constructNestedObject() {
     NestedBasicObjectWithPublicFields constructed = new NestedBasicObjectWithPublicFields(
         new ClassWithPublicField(),
@@ -277,4 +351,26 @@ public class ObjectDistanceCalculatorTest {
     }
   }
 
+  static class ClassWithPrimitiveFields {
+
+    boolean b;
+    char c;
+    byte by;
+    short s;
+    int i;
+    long l;
+    float f;
+    double d;
+  }
+
+  static class Node {
+
+    int value;
+    Node next;
+
+    Node(int value) {
+      this.value = value;
+    }
+  }
+
 }
@@ -0,0 +1,159 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.setup;
+
+import org.apache.commons.io.FileUtils;
+import org.evosuite.Properties;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class InheritanceTreeCacheTest {
+
+    private File folder;
+
+    private String cacheDir;
+
+    @Before
+    public void setUp() throws IOException {
+        cacheDir = Properties.INHERITANCE_CACHE_DIR;
+        folder = Files.createTempDirectory("InheritanceTreeCacheTest").toFile();
+        Properties.INHERITANCE_CACHE_DIR = new File(folder, "cache").getAbsolutePath();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Properties.INHERITANCE_CACHE_DIR = cacheDir;
+        FileUtils.deleteDirectory(folder);
+    }
+
+    private static ClassNode createClassNode(String name, int access, String superName, String... interfaces) {
+        ClassNode cn = new ClassNode();
+        cn.name = name;
+        cn.access = access;
+        cn.superName = superName;
+        cn.interfaces.addAll(Arrays.asList(interfaces));
+        cn.methods.add(new MethodNode(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null));
+        cn.methods.add(new MethodNode(Opcodes.ACC_PUBLIC, "foo", "(ILjava/lang/String;)Z", null, null));
+        return cn;
+    }
+
+    private File createJar(String name, String content) throws IOException {
+        File jar = new File(folder, name);
+        FileUtils.writeStringToFile(jar, content, "UTF-8");
+        return jar;
+    }
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        InheritanceTreeCache.ClassRecord foo = new InheritanceTreeCache.ClassRecord(
+                createClassNode("com/example/Foo", Opcodes.ACC_PUBLIC, "java/lang/Object", "java/io/Serializable", "java/lang/Runnable"));
+        InheritanceTreeCache.ClassRecord bar = new InheritanceTreeCache.ClassRecord(
+                createClassNode("com/example/Bar", Opcodes.ACC_PUBLIC | Opcodes.ACC_INTERFACE | Opcodes.ACC_ABSTRACT, null));
+
+        File file = InheritanceTreeCache.getCacheFile(createJar("foo.jar", "foo").getAbsolutePath());
+        assertNotNull(file);
+        InheritanceTreeCache.write(file, Arrays.asList(foo, bar));
+        assertTrue(file.exists());
+
+        List<InheritanceTreeCache.ClassRecord> records = InheritanceTreeCache.read(file);
+        assertEquals(2, records.size());
+
+        InheritanceTreeCache.ClassRecord readFoo = records.get(0);
+        assertEquals("com/example/Foo", readFoo.name);
+        assertEquals(Opcodes.ACC_PUBLIC, readFoo.access);
+        assertEquals("java/lang/Object", readFoo.superName);
+        assertEquals(Arrays.asList("java/io/Serializable", "java/lang/Runnable"), readFoo.interfaces);
+        assertEquals(Arrays.asList("<init>()V", "foo(ILjava/lang/String;)Z"), readFoo.methods);
+
+        InheritanceTreeCache.ClassRecord readBar = records.get(1);
+        assertEquals("com/example/Bar", readBar.name);
+        assertEquals(Opcodes.ACC_PUBLIC | Opcodes.ACC_INTERFACE | Opcodes.ACC_ABSTRACT, readBar.access);
+        assertNull(readBar.superName);
+        assertEquals(Collections.emptyList(), readBar.interfaces);
+        // methods of interfaces are not part of the inheritance tree
+        assertEquals(Collections.emptyList(), readBar.methods);
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadInvalidFile() throws IOException {
+        File file = createJar("notACache.inh", "not a cache file");
+        InheritanceTreeCache.read(file);
+    }
+
+    @Test
+    public void testNoCacheFile() throws IOException {
+        assertNull(InheritanceTreeCache.getCacheFile(folder.getAbsolutePath()));
+        assertNull(InheritanceTreeCache.getCacheFile(createJar("foo.zip", "foo").getAbsolutePath()));
+        assertNull(InheritanceTreeCache.getCacheFile(new File(folder, "missing.jar").getAbsolutePath()));
+
+        Properties.INHERITANCE_CACHE_DIR = "";
+        assertNull(InheritanceTreeCache.getCacheFile(createJar("foo.jar", "foo").getAbsolutePath()));
+    }
+
+    @Test
+    public void testCacheFileChangesWithPath() throws IOException {
+        File foo = createJar("foo.jar", "foo");
+        File bar = createJar("bar.jar", "foo");
+        assertTrue(bar.setLastModified(foo.lastModified()));
+
+        File fooCache = InheritanceTreeCache.getCacheFile(foo.getAbsolutePath());
+        assertEquals(fooCache, InheritanceTreeCache.getCacheFile(foo.getAbsolutePath()));
+        assertFalse(fooCache.equals(InheritanceTreeCache.getCacheFile(bar.getAbsolutePath())));
+    }
+
+    @Test
+    public void testCacheFileChangesWithSize() throws IOException {
+        File jar = createJar("foo.jar", "foo");
+        long lastModified = jar.lastModified();
+        File before = InheritanceTreeCache.getCacheFile(jar.getAbsolutePath());
+
+        FileUtils.writeStringToFile(jar, "foobar", "UTF-8");
+        assertTrue(jar.setLastModified(lastModified));
+
+        assertFalse(before.equals(InheritanceTreeCache.getCacheFile(jar.getAbsolutePath())));
+    }
+
+    @Test
+    public void testCacheFileChangesWithModificationTime() throws IOException {
+        File jar = createJar("foo.jar", "foo");
+        File before = InheritanceTreeCache.getCacheFile(jar.getAbsolutePath());
+
+        assertTrue(jar.setLastModified(jar.lastModified() - 60_000));
+
+        assertFalse(before.equals(InheritanceTreeCache.getCacheFile(jar.getAbsolutePath())));
+    }
+}
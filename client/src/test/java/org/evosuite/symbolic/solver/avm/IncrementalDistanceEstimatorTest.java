@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver.avm;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.evosuite.symbolic.expr.Comparator;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.IntegerConstraint;
+import org.evosuite.symbolic.expr.Operator;
+import org.evosuite.symbolic.expr.RealConstraint;
+import org.evosuite.symbolic.expr.bv.IntegerBinaryExpression;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.expr.fp.RealConstant;
+import org.evosuite.symbolic.expr.fp.RealVariable;
+import org.evosuite.symbolic.solver.DistanceEstimator;
+import org.junit.Test;
+
+public class IncrementalDistanceEstimatorTest {
+
+	private final IntegerVariable x = new IntegerVariable("x", 0, -1000, 1000);
+
+	private final IntegerVariable y = new IntegerVariable("y", 0, -1000, 1000);
+
+	private final RealVariable z = new RealVariable("z", 0.0, -1000.0, 1000.0);
+
+	private List<Constraint<?>> getConstraints() {
+		List<Constraint<?>> constraints = new ArrayList<Constraint<?>>();
+		constraints.add(new IntegerConstraint(x, Comparator.EQ, new IntegerConstant(10)));
+		constraints.add(new IntegerConstraint(y, Comparator.GT,
+				new IntegerBinaryExpression(x, Operator.PLUS, new IntegerConstant(5), 5L)));
+		constraints.add(new RealConstraint(z, Comparator.LT, new RealConstant(-3.5)));
+		constraints.add(new IntegerConstraint(y, Comparator.NE, new IntegerConstant(0)));
+		return constraints;
+	}
+
+	@Test
+	public void testInitialDistance() {
+		List<Constraint<?>> constraints = getConstraints();
+		IncrementalDistanceEstimator estimator = new IncrementalDistanceEstimator(constraints);
+		assertEquals(DistanceEstimator.getDistance(constraints), estimator.getDistance(), 0.0);
+	}
+
+	@Test
+	public void testUpdateAfterVariableChange() {
+		List<Constraint<?>> constraints = getConstraints();
+		IncrementalDistanceEstimator estimator = new IncrementalDistanceEstimator(constraints);
+
+		long[] xValues = { 3, 10, -7, 10, 999 };
+		long[] yValues = { 0, 16, 15, -1000, 42 };
+		double[] zValues = { -3.5, 7.25, -100.0, 0.0, -3.4 };
+		for (int i = 0; i < xValues.length; i++) {
+			x.setConcreteValue(xValues[i]);
+			assertEquals(DistanceEstimator.getDistance(constraints), estimator.updateDistance(x), 0.0);
+
+			y.setConcreteValue(yValues[i]);
+			assertEquals(DistanceEstimator.getDistance(constraints), estimator.updateDistance(y), 0.0);
+
+			z.setConcreteValue(zValues[i]);
+			assertEquals(DistanceEstimator.getDistance(constraints), estimator.updateDistance(z), 0.0);
+		}
+	}
+
+	@Test
+	public void testRefreshAfterSeveralChanges() {
+		List<Constraint<?>> constraints = getConstraints();
+		IncrementalDistanceEstimator estimator = new IncrementalDistanceEstimator(constraints);
+
+		x.setConcreteValue(10L);
+		y.setConcreteValue(16L);
+		z.setConcreteValue(-4.0);
+		assertEquals(DistanceEstimator.getDistance(constraints), estimator.refresh(), 0.0);
+		assertEquals(0.0, estimator.getDistance(), 0.0);
+	}
+
+	@Test
+	public void testUnknownVariable() {
+		List<Constraint<?>> constraints = getConstraints();
+		IncrementalDistanceEstimator estimator = new IncrementalDistanceEstimator(constraints);
+		double before = estimator.getDistance();
+
+		IntegerVariable other = new IntegerVariable("other", 5, -1000, 1000);
+		assertEquals(before, estimator.updateDistance(other), 0.0);
+	}
+}
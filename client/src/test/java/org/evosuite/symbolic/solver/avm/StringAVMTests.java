@@ -60,7 +60,7 @@ public class StringAVMTests extends RandomizedTC {
 		long start_time = System.currentTimeMillis();
 		long timeout = Properties.DSE_CONSTRAINT_SOLVER_TIMEOUT_MILLIS;
 
-		StringAVM avm = new StringAVM(var,constraints,start_time,timeout);
+		StringAVM avm = new StringAVM(var,new IncrementalDistanceEstimator(constraints),start_time,timeout);
 		boolean succeded = avm.applyAVM();
 		assertTrue(succeded);
 	}
@@ -76,7 +76,7 @@ public class StringAVMTests extends RandomizedTC {
 		long start_time = System.currentTimeMillis();
 		long timeout = Properties.DSE_CONSTRAINT_SOLVER_TIMEOUT_MILLIS;
 
-		StringAVM avm = new StringAVM(var,constraints,start_time,timeout);
+		StringAVM avm = new StringAVM(var,new IncrementalDistanceEstimator(constraints),start_time,timeout);
 		boolean succeded = avm.applyAVM();
 		assertTrue(succeded);
 		
@@ -96,7 +96,7 @@ public class StringAVMTests extends RandomizedTC {
 		
 		long start_time = System.currentTimeMillis();
 		long timeout = Properties.DSE_CONSTRAINT_SOLVER_TIMEOUT_MILLIS;
-		StringAVM avm = new StringAVM(var,constraints, start_time, timeout);
+		StringAVM avm = new StringAVM(var,new IncrementalDistanceEstimator(constraints), start_time, timeout);
 		boolean succeded = avm.applyAVM();
 		assertTrue(succeded);
 		
@@ -117,7 +117,7 @@ public class StringAVMTests extends RandomizedTC {
 		long start_time = System.currentTimeMillis();
 		long timeout = Properties.DSE_CONSTRAINT_SOLVER_TIMEOUT_MILLIS;
 
-		StringAVM avm = new StringAVM(var,constraints,start_time,timeout);
+		StringAVM avm = new StringAVM(var,new IncrementalDistanceEstimator(constraints),start_time,timeout);
 		boolean succeded = avm.applyAVM();
 		assertTrue(succeded);
 		
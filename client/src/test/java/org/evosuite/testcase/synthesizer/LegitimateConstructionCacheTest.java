@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.synthesizer;
+
+import java.util.Arrays;
+
+import org.evosuite.TestGenerationContext;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.ConstructorStatement;
+import org.evosuite.testcase.statements.numeric.LongPrimitiveStatement;
+import org.evosuite.testcase.variable.VariableReference;
+import org.evosuite.utils.generic.GenericConstructor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LegitimateConstructionCacheTest {
+
+	private static TestCase createTest(Class<?> dateClass, long time) throws NoSuchMethodException {
+		DefaultTestCase test = new DefaultTestCase();
+		VariableReference timeVar = test.addStatement(new LongPrimitiveStatement(test, time));
+		GenericConstructor constructor = new GenericConstructor(dateClass.getConstructor(long.class), dateClass);
+		test.addStatement(new ConstructorStatement(test, constructor, Arrays.asList(timeVar)));
+		return test;
+	}
+
+	@After
+	public void clearCache() {
+		LegitimateConstructionCache.clear();
+	}
+
+	@Test
+	public void testPrimitiveValuesAreAbstracted() throws NoSuchMethodException {
+		String key = LegitimateConstructionCache.getKey(createTest(java.util.Date.class, 1L), null);
+		Assert.assertEquals(key, LegitimateConstructionCache.getKey(createTest(java.util.Date.class, 42L), null));
+	}
+
+	@Test
+	public void testSameSimpleNameInDifferentPackages() throws NoSuchMethodException {
+		TestCase utilDate = createTest(java.util.Date.class, 1L);
+		TestCase sqlDate = createTest(java.sql.Date.class, 1L);
+
+		// the code alone cannot tell the two classes apart
+		Assert.assertEquals(utilDate.getStatement(1).getCode(), sqlDate.getStatement(1).getCode());
+		Assert.assertFalse(LegitimateConstructionCache.getKey(utilDate, null)
+				.equals(LegitimateConstructionCache.getKey(sqlDate, null)));
+	}
+
+	@Test
+	public void testClearedOnContextReset() throws NoSuchMethodException {
+		TestCase test = createTest(java.util.Date.class, 1L);
+		String key = LegitimateConstructionCache.getKey(test, new PartialGraph());
+		LegitimateConstructionCache.put(key, test);
+		Assert.assertSame(test, LegitimateConstructionCache.get(key));
+
+		TestGenerationContext.getInstance().resetContext();
+		Assert.assertNull(LegitimateConstructionCache.get(key));
+	}
+}
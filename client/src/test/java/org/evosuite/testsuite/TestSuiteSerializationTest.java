@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testsuite;
+
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestSuiteSerializationTest {
+
+    private File file;
+
+    @Before
+    public void createFile() throws IOException {
+        file = File.createTempFile("TestSuiteSerializationTest", ".ser");
+    }
+
+    @After
+    public void deleteFile() {
+        file.delete();
+    }
+
+    /**
+     * Simulates a test whose classes cannot be loaded any more
+     */
+    private static class UnreadableObject implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            throw new ClassNotFoundException("UnreadableObject");
+        }
+    }
+
+    private static TestChromosome createTest(int... values) {
+        TestCase test = new DefaultTestCase();
+        for (int value : values) {
+            test.addStatement(new IntPrimitiveStatement(test, value));
+        }
+        TestChromosome tc = new TestChromosome();
+        tc.setTestCase(test);
+        return tc;
+    }
+
+    private void writeObjects(Object... objects) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(TestSuiteSerialization.MAGIC);
+            out.writeInt(TestSuiteSerialization.FORMAT_VERSION);
+            ObjectOutputStream oos = new ObjectOutputStream(out);
+            oos.writeInt(objects.length);
+            for (Object obj : objects) {
+                oos.writeObject(obj);
+            }
+            oos.close();
+        }
+    }
+
+    @Test
+    public void testRoundTrip() {
+        TestSuiteChromosome suite = new TestSuiteChromosome();
+        suite.addTest(createTest(1, 2));
+        suite.addTest(createTest(3));
+        suite.addTest(createTest(4, 5, 6));
+
+        assertTrue(TestSuiteSerialization.saveTests(suite, file));
+        List<TestChromosome> loaded = TestSuiteSerialization.loadTests(file);
+
+        assertEquals(3, loaded.size());
+        for (int i = 0; i < loaded.size(); i++) {
+            assertEquals(suite.getTestChromosome(i).getTestCase().toCode(), loaded.get(i).getTestCase().toCode());
+        }
+    }
+
+    @Test
+    public void testLoadLegacyFormat() throws IOException {
+        TestChromosome first = createTest(1);
+        TestChromosome second = createTest(2, 3);
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(file))) {
+            out.writeObject(first);
+            out.writeObject(second);
+        }
+
+        List<TestChromosome> loaded = TestSuiteSerialization.loadTests(file);
+
+        assertEquals(2, loaded.size());
+        assertEquals(first.getTestCase().toCode(), loaded.get(0).getTestCase().toCode());
+        assertEquals(second.getTestCase().toCode(), loaded.get(1).getTestCase().toCode());
+    }
+
+    @Test
+    public void testSkipUnreadableTest() throws IOException {
+        TestChromosome first = createTest(1);
+        TestChromosome last = createTest(2, 3);
+        writeObjects(first, new UnreadableObject(), last);
+
+        List<TestChromosome> loaded = TestSuiteSerialization.loadTests(file);
+
+        assertEquals(2, loaded.size());
+        assertEquals(first.getTestCase().toCode(), loaded.get(0).getTestCase().toCode());
+        assertEquals(last.getTestCase().toCode(), loaded.get(1).getTestCase().toCode());
+    }
+}
@@ -32,6 +32,7 @@ import org.evosuite.testcase.TestFactory;
 import org.evosuite.testcase.TestFitnessFunction;
 import org.evosuite.testcase.execution.reset.ClassReInitializer;
 import org.evosuite.testcase.statements.ConstructorStatement;
+import org.evosuite.testcase.statements.MethodStatement;
 import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
 import org.evosuite.testcase.variable.VariableReference;
 import org.evosuite.utils.Randomness;
@@ -380,4 +381,50 @@ public class TestTestSuiteMinimizer
         double branch_fitness = branch.getFitness(tsc);
         assertEquals(previous_branch_fitness, branch_fitness, 0.0);
     }
+
+    @Test
+    public void minimizeLongTestsPerTest() throws ClassNotFoundException, NoSuchMethodException, SecurityException
+    {
+        Properties.TARGET_CLASS = FlagExample1.class.getCanonicalName();
+        Class<?> sut = TestGenerationContext.getInstance().getClassLoaderForSUT().loadClass(Properties.TARGET_CLASS);
+        GenericClass clazz = new GenericClass(sut);
+
+        DefaultTestCase test = new DefaultTestCase();
+        GenericConstructor gc = new GenericConstructor(clazz.getRawClass().getConstructors()[0], clazz);
+        VariableReference callee = test.addStatement(new ConstructorStatement(test, gc, new ArrayList<VariableReference>()));
+
+        // only two of these values are used, the others have to be removed
+        List<VariableReference> values = new ArrayList<VariableReference>();
+        for (int i = 0; i < 40; i++) {
+            values.add(test.addStatement(new IntPrimitiveStatement(test, 28234 + i)));
+        }
+
+        Method m = clazz.getRawClass().getMethod("testMe", new Class<?>[] { int.class });
+        GenericMethod method = new GenericMethod(m, sut);
+        List<VariableReference> parameters = new ArrayList<VariableReference>();
+        parameters.add(values.get(7));
+        test.addStatement(new MethodStatement(test, method, callee, parameters));
+        parameters = new ArrayList<VariableReference>();
+        parameters.add(values.get(30));
+        test.addStatement(new MethodStatement(test, method, callee, parameters));
+
+        assertEquals(43, test.size());
+
+        TestSuiteChromosome tsc = new TestSuiteChromosome();
+        tsc.addTest(test);
+
+        TestSuiteFitnessFunction branch = new BranchCoverageSuiteFitness();
+        double previous_branch_fitness = branch.getFitness(tsc);
+        tsc.setFitness(branch, previous_branch_fitness);
+        assertEquals(0.0, previous_branch_fitness, 0.0);
+
+        TestSuiteMinimizer minimizer = new TestSuiteMinimizer(new BranchCoverageFactory());
+        minimizer.minimize(tsc, true);
+        assertEquals(2, tsc.getTests().size());
+        assertEquals(3, tsc.getTests().get(0).size());
+        assertEquals(3, tsc.getTests().get(1).size());
+
+        double branch_fitness = branch.getFitness(tsc);
+        assertEquals(previous_branch_fitness, branch_fitness, 0.0);
+    }
 }
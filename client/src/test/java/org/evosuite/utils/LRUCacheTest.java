@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2010-2018 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LRUCacheTest {
+
+	@Test
+	public void testEvictsLeastRecentlyUsed() {
+		LRUCache<String, Integer> cache = new LRUCache<String, Integer>(2);
+		cache.put("a", 1);
+		cache.put("b", 2);
+
+		// "a" becomes the most recently used one, so "b" is evicted
+		Assert.assertEquals(Integer.valueOf(1), cache.get("a"));
+		cache.put("c", 3);
+
+		Assert.assertEquals(2, cache.size());
+		Assert.assertNull(cache.get("b"));
+		Assert.assertEquals(Integer.valueOf(1), cache.get("a"));
+		Assert.assertEquals(Integer.valueOf(3), cache.get("c"));
+	}
+
+	@Test
+	public void testRemove() {
+		LRUCache<String, Integer> cache = new LRUCache<String, Integer>(2);
+		cache.put("a", 1);
+		cache.remove("a");
+		cache.remove("b");
+
+		Assert.assertEquals(0, cache.size());
+		Assert.assertNull(cache.get("a"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidSize() {
+		new LRUCache<String, Integer>(0);
+	}
+}
@@ -87,6 +87,14 @@ public class JobExecutor {
 	 */
 	private Map<String,JobDefinition> finishedJobs; 
 
+	/**
+	 * Sum of the memory (in MB) of all the jobs that are currently
+	 * queued or running. Access is guarded by <code>memoryLock</code>
+	 */
+	private int memoryInUseMB;
+
+	private final Object memoryLock = new Object();
+
 	protected final CtgConfiguration configuration;
 	
 	private String projectClassPath;
@@ -200,13 +208,15 @@ public class JobExecutor {
 		 */
 		jobQueue = new ArrayBlockingQueue<>(1);
 		finishedJobs = new ConcurrentHashMap<>();
+		synchronized (memoryLock) {
+			memoryInUseMB = 0;
+		}
 	}
 
 	protected long execute(List<JobDefinition> jobs){
 		
 		long longestJob = -1l;
 		
-		//TODO handle memory
 		Queue<JobDefinition> toExecute = new LinkedList<>();
 		toExecute.addAll(jobs);
 		
@@ -279,9 +289,23 @@ public class JobExecutor {
 			assert chosenJob != null;
 			longestJob = Math.max(longestJob, chosenJob.seconds * 1000);
 			
+			boolean reserved = false;
 			try {
-				jobQueue.offer(chosenJob, remaining, TimeUnit.MILLISECONDS); 
+				reserved = reserveMemory(chosenJob, remaining);
+				if(!reserved){
+					//time is over while waiting for running jobs to release their memory
+					break mainLoop;
+				}
+				//waiting for the memory used part of the remaining time
+				remaining = getRemainingTimeInMs();
+				if(remaining <= 0 || !jobQueue.offer(chosenJob, remaining, TimeUnit.MILLISECONDS)){
+					releaseMemory(chosenJob);
+					break mainLoop;
+				}
 			} catch (InterruptedException e) {
+				if(reserved){
+					releaseMemory(chosenJob);
+				}
 				Thread.currentThread().interrupt(); //important for check later
 				break mainLoop;
 			} 
@@ -297,7 +321,51 @@ public class JobExecutor {
 		return jobQueue.take();
 	}
 	
+	/**
+	 * Wait until the memory of the given job fits in the total memory
+	 * of the configuration, considering all the jobs that are currently
+	 * queued or running, and then reserve it.
+	 * A job is always allowed to run if no other job is running, even if it asks for more
+	 * memory than available, otherwise it would never be executed.
+	 * 
+	 * @param job
+	 * @param timeoutInMs
+	 * @return <code>false</code> if the memory could not be reserved within the timeout
+	 * @throws InterruptedException
+	 */
+	protected boolean reserveMemory(JobDefinition job, long timeoutInMs) throws InterruptedException{
+		long endBy = System.currentTimeMillis() + timeoutInMs;
+		synchronized (memoryLock) {
+			while(memoryInUseMB > 0 && memoryInUseMB + job.memoryInMB > configuration.totalMemoryInMB){
+				long left = endBy - System.currentTimeMillis();
+				if(left <= 0){
+					return false;
+				}
+				memoryLock.wait(left);
+			}
+			memoryInUseMB += job.memoryInMB;
+			return true;
+		}
+	}
+
+	/**
+	 * @return the sum of the memory (in MB) of all the jobs that are currently queued or running
+	 */
+	protected int getMemoryInUseMB(){
+		synchronized (memoryLock) {
+			return memoryInUseMB;
+		}
+	}
+
+	private void releaseMemory(JobDefinition job){
+		synchronized (memoryLock) {
+			memoryInUseMB -= job.memoryInMB;
+			memoryLock.notifyAll();
+		}
+	}
+
 	public void doneWithJob(JobDefinition job){
+		releaseMemory(job);
 		finishedJobs.put(job.cut, job);
 		latch.countDown();
 		LoggingUtils.getEvoLogger().info("Completed job. Left: "+latch.getCount());
@@ -25,6 +25,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.evosuite.Properties;
 import org.evosuite.Properties.StoppingCondition;
@@ -50,6 +51,12 @@ public class JobHandler extends Thread {
 
 	private final JobExecutor executor;
 
+	/**
+	 * How long a client process can run after its budget is over before being killed.
+	 * Note: this should be larger than the time the process needs to shut down
+	 */
+	private static final int STRAGGLER_GRACE_SECONDS = 120;
+
 	private Process latestProcess;
 	
 	/**
@@ -109,7 +116,12 @@ public class JobHandler extends Thread {
 
 			try {
 
-				List<String> commands = getCommandString(job);
+				/*
+				 * computed once, as the remaining time of the whole CTG run
+				 * keeps decreasing while the job executes
+				 */
+				int budgetInSeconds = getBudgetInSeconds(job.seconds);
+				List<String> commands = getCommandString(job, budgetInSeconds);
 
 				String baseDir = System.getProperty("user.dir");
 				File dir = new File(baseDir);
@@ -137,8 +149,11 @@ public class JobHandler extends Thread {
 				process = builder.start();
 				latestProcess = process;
 				
-				int exitCode = process.waitFor(); //no need to have timeout here, as it is handled by the scheduler/executor				
+				if (!waitForProcess(job, process, budgetInSeconds + STRAGGLER_GRACE_SECONDS)) {
+					continue; // the process was killed, and 'finally' marks the job as done
+				}
 
+				int exitCode = process.exitValue();
 				if (exitCode != 0) {
 					handleProcessError(job, process);
 				}
@@ -146,14 +161,7 @@ public class JobHandler extends Thread {
 			} catch (InterruptedException e) {
 				this.interrupt();
 				if (process != null) {
-					try {
-						//be sure streamers are closed, otherwise process might hang on Windows
-						process.getOutputStream().close();
-						process.getInputStream().close();
-						process.getErrorStream().close();
-					} catch (Exception t){
-						logger.error("Failed to close process stream: "+t.toString());
-					}
+					closeStreams(process);
 					process.destroy();
 				}
 			} catch (Exception e) {
@@ -168,6 +176,48 @@ public class JobHandler extends Thread {
 		}
 	}
 
+	/**
+	 * Wait for the process of the given job to end. A process still running
+	 * well after its allotted budget is a straggler (eg, stuck in SUT code
+	 * that ignores interrupts): it is killed, so that the core and memory it
+	 * holds can be used by the jobs still to execute.
+	 * 
+	 * @param job
+	 * @param process
+	 * @param timeoutInSeconds the budget the process was started with, plus a grace period
+	 * @return <code>false</code> if the process had to be killed
+	 * @throws InterruptedException
+	 */
+	protected boolean waitForProcess(JobDefinition job, Process process, long timeoutInSeconds) throws InterruptedException {
+
+		if (Properties.CTG_DEBUG_PORT != null) {
+			//do not use timeout if we are debugging
+			process.waitFor();
+			return true;
+		}
+
+		if (process.waitFor(timeoutInSeconds, TimeUnit.SECONDS)) {
+			return true;
+		}
+
+		logger.warn("Job for " + job.cut + " did not end within " + timeoutInSeconds
+				+ " seconds. Killing it");
+		closeStreams(process);
+		process.destroyForcibly();
+		return false;
+	}
+
+	private void closeStreams(Process process) {
+		try {
+			//be sure streamers are closed, otherwise process might hang on Windows
+			process.getOutputStream().close();
+			process.getInputStream().close();
+			process.getErrorStream().close();
+		} catch (Exception t){
+			logger.error("Failed to close process stream: "+t.toString());
+		}
+	}
+
 	/**
 	 * Print process console output if it died, as its logs on disks might not
 	 * have been generated yet
@@ -203,7 +253,7 @@ public class JobHandler extends Thread {
 	}
 
 
-	private List<String> getCommandString(JobDefinition job) {
+	private List<String> getCommandString(JobDefinition job, int budgetInSeconds) {
 
 		List<String> commands = new ArrayList<>();
 		commands.add(JavaExecCmdUtil.getJavaBinExecutablePath()/*"java"*/);
@@ -310,7 +360,7 @@ public class JobHandler extends Thread {
 
 		//TODO not just input pool, but also hierarchy
 
-		commands.addAll(timeSetUp(job.seconds));
+		commands.addAll(timeSetUp(budgetInSeconds));
 
 		File reports = storage.getTmpReports();
 		File tests = storage.getTmpTests();
@@ -495,7 +545,14 @@ public class JobHandler extends Thread {
 		return commands;
 	}
 
-	private List<String> timeSetUp(int seconds) {
+	/**
+	 * The actual time budget of a job, which depends on how much time is left
+	 * to the whole CTG run
+	 * 
+	 * @param seconds
+	 * @return
+	 */
+	private int getBudgetInSeconds(int seconds) {
 
 		//do we have enough time for this job?
 		int remaining = (int) executor.getRemainingTimeInMs() / 1000;
@@ -511,6 +568,11 @@ public class JobHandler extends Thread {
 			seconds = minSecondsPerJob;
 		}
 
+		return seconds;
+	}
+
+	private List<String> timeSetUp(int seconds) {
+
 		/*
 		 * We have at least 4 phases:
 		 * - init (eg dependency analysis)
@@ -43,6 +43,7 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.time.DateFormatUtils;
 import org.evosuite.Properties;
 import org.evosuite.continuous.project.ProjectStaticData;
+import org.evosuite.continuous.project.ProjectStaticData.ClassInfo;
 import org.evosuite.utils.ArrayUtil;
 import org.evosuite.utils.FileIOUtils;
 import org.evosuite.utils.LoggingUtils;
@@ -325,6 +326,14 @@ public class StorageManager {
 		}
 
 		commitDatabase(db);
+
+		if (current.isUsingFingerprints()) {
+			Set<String> completedCUTs = new LinkedHashSet<String>();
+			for (TestsOnDisk suite : suites) {
+				completedCUTs.add(suite.cut);
+			}
+			saveClassFingerprints(current, completedCUTs);
+		}
 		return info;
 	}
 
@@ -477,6 +486,78 @@ public class StorageManager {
 		return new File(Properties.CTG_DIR + File.separator + Properties.CTG_PROJECT_INFO);
 	}
 
+	private static File getFingerprintsFile(){
+		return new File(Properties.CTG_DIR + File.separator + Properties.CTG_FINGERPRINTS);
+	}
+
+	/**
+	 * Get the bytecode fingerprints of the CUTs as stored by the last CTG run
+	 * 
+	 * @return a map from class name to fingerprint, empty if CTG was never run
+	 */
+	public static Map<String, String> getClassFingerprints() {
+
+		Map<String, String> fingerprints = new LinkedHashMap<String, String>();
+		File file = getFingerprintsFile();
+		if (!file.exists()) {
+			return fingerprints;
+		}
+
+		try {
+			for (String line : FileUtils.readLines(file)) {
+				String[] split = line.split(",");
+				if (split.length == 2) {
+					fingerprints.put(split[0], split[1]);
+				}
+			}
+		} catch (IOException e) {
+			logger.error("Failed to read fingerprints: " + e.getMessage(), e);
+		}
+		return fingerprints;
+	}
+
+	/**
+	 * Store the bytecode fingerprints of the CUTs analyzed in this CTG run,
+	 * so that next runs can identify which of them were modified.
+	 * 
+	 * <p>
+	 * A changed CUT for which no test suite was generated (eg, its job was
+	 * not scheduled for lack of budget, or it failed) keeps the fingerprint
+	 * of the previous run, so that it is still seen as modified next time.
+	 * If only its dependencies changed, its fingerprint is not stored at all,
+	 * which has the same effect.
+	 * 
+	 * @param current
+	 * @param completedCUTs the CUTs for which a test suite was generated in this run
+	 */
+	protected void saveClassFingerprints(ProjectStaticData current, Set<String> completedCUTs) {
+
+		if (!this.isStorageOk) {
+			return;
+		}
+
+		List<String> lines = new ArrayList<String>();
+		for (String cut : current.getClassNames()) {
+			ClassInfo info = current.getClassInfo(cut);
+			String fingerprint = info.getFingerprint();
+			if (info.isTestable() && info.hasChanged() && !completedCUTs.contains(cut)) {
+				fingerprint = current.getPreviousFingerprint(cut);
+				if (fingerprint != null && fingerprint.equals(info.getFingerprint())) {
+					fingerprint = null;
+				}
+			}
+			if (fingerprint != null) {
+				lines.add(cut + "," + fingerprint);
+			}
+		}
+
+		try {
+			FileUtils.writeLines(getFingerprintsFile(), lines);
+		} catch (IOException e) {
+			logger.error("Failed to write fingerprints: " + e.getMessage(), e);
+		}
+	}
+
 	/**
 	 * Not only modify the state of <code>db</code>, but
 	 * also copy/replace new test cases on file disk
@@ -20,6 +20,8 @@
 package org.evosuite.continuous.project;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
@@ -27,6 +29,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 
+import org.apache.commons.io.IOUtils;
 import org.evosuite.Properties;
 import org.evosuite.TestGenerationContext;
 import org.evosuite.Properties.AvailableSchedule;
@@ -38,6 +41,7 @@ import org.evosuite.coverage.branch.BranchPool;
 import org.evosuite.instrumentation.InstrumentingClassLoader;
 import org.evosuite.junit.CoverageAnalysis;
 import org.evosuite.runtime.sandbox.Sandbox;
+import org.evosuite.utils.MD5;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -244,12 +248,43 @@ public class ProjectAnalyzer {
 			data.addNewClass(ci);
 
 			if (Properties.CTG_SCHEDULE == AvailableSchedule.HISTORY) {
-				ci.setChanged(data.hasChanged(theClass.getCanonicalName() + ".java"));
+				if (data.isUsingFingerprints()) {
+					ci.setFingerprint(getFingerprint(className));
+				} else {
+					ci.setChanged(data.hasChanged(theClass.getCanonicalName() + ".java"));
+				}
 				ci.isToTest(data.isToTest(theClass.getCanonicalName(), HistorySchedule.COMMIT_IMPROVEMENT));
 			}
 		}
 
+		if (data.isUsingFingerprints()) {
+			// changes can only be propagated once all classes are known
+			data.updateChangesFromFingerprints();
+		}
+
 		return data;
 	}
+
+	/**
+	 * Compute a hash of the bytecode of the given class
+	 * 
+	 * @param className
+	 * @return {@code null} if the bytecode cannot be read
+	 */
+	private String getFingerprint(String className) {
+		InputStream stream = ResourceList.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT()).getClassAsStream(className);
+		if (stream == null) {
+			logger.warn("Cannot read bytecode of " + className);
+			return null;
+		}
+		try {
+			return MD5.hash(IOUtils.toByteArray(stream));
+		} catch (IOException e) {
+			logger.warn("Cannot read bytecode of " + className + ": " + e.getMessage());
+			return null;
+		} finally {
+			IOUtils.closeQuietly(stream);
+		}
+	}
 }
 
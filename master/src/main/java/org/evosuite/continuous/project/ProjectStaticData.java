@@ -26,7 +26,9 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -85,6 +87,13 @@ public class ProjectStaticData {
      */
     private Project project = null;
 
+    /**
+     * Map from CUT full class name (key) to its bytecode fingerprint in the
+     * previous CTG run (value). This is {@code null} unless modified classes
+     * are identified by their bytecode, ie no history file is given
+     */
+    private Map<String, String> previousFingerprints = null;
+
     /**
      * 
      */
@@ -103,7 +112,9 @@ public class ProjectStaticData {
 	 */
 	public void initializeLocalHistory() {
 		if (Properties.CTG_HISTORY_FILE == null) {
-			logger.info("ctg history file is not set");
+			logger.info("ctg history file is not set, modified classes are identified by their bytecode");
+			setPreviousFingerprints(StorageManager.getClassFingerprints());
+			this.project = StorageManager.getDatabaseProject();
 			return ;
 		}
 
@@ -184,6 +195,11 @@ public class ProjectStaticData {
          */
         private int memoryInMB = 0;
 
+        /**
+         * hash of the bytecode of this class, {@code null} if not computed
+         */
+        private String fingerprint = null;
+
 		public ClassInfo(Class<?> theClass, int numberOfBranches, boolean hasCode) {
 			super();
 			this.theClass = theClass;
@@ -226,6 +242,13 @@ public class ProjectStaticData {
         public int getMemoryInMB() {
             return memoryInMB;
         }
+
+        public void setFingerprint(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+        public String getFingerprint() {
+            return fingerprint;
+        }
 	}
 
 	/**
@@ -316,6 +339,101 @@ public class ProjectStaticData {
         this.project = project;
     }
 
+    protected void setPreviousFingerprints(Map<String, String> previousFingerprints) {
+        this.previousFingerprints = previousFingerprints;
+    }
+
+    /**
+     * Returns true if modified classes are identified by comparing their
+     * bytecode with the one of the previous CTG run
+     */
+    public boolean isUsingFingerprints() {
+        return this.previousFingerprints != null;
+    }
+
+    /**
+     * Returns the bytecode fingerprint that <code>className</code> had in the
+     * previous CTG run, {@code null} if unknown
+     */
+    public String getPreviousFingerprint(String className) {
+        if (this.previousFingerprints == null) {
+            return null;
+        }
+        return this.previousFingerprints.get(className);
+    }
+
+    /**
+     * Mark as changed all the CUTs whose bytecode differs from the previous
+     * CTG run (new CUTs included), and all the CUTs that depend on them,
+     * directly or transitively, ie that use them as input or extend them.
+     * All other CUTs are marked as not changed.
+     * 
+     * <p>
+     * Note: this has to be called once all classes have been added, as it
+     * builds the project graph
+     */
+    public void updateChangesFromFingerprints() {
+        if (this.previousFingerprints == null) {
+            throw new IllegalStateException("Fingerprints of previous CTG run are not loaded");
+        }
+
+        Set<String> modified = new LinkedHashSet<String>();
+        for (ClassInfo info : classes.values()) {
+            String old = this.previousFingerprints.get(info.getClassName());
+            if (info.getFingerprint() == null || !info.getFingerprint().equals(old)) {
+                modified.add(info.getClassName());
+            }
+        }
+
+        Set<String> changed = new LinkedHashSet<String>(modified);
+
+        // reverse dependency edges: from a class to the CUTs that use it as input or extend it
+        Map<String, Set<String>> dependents = new LinkedHashMap<String, Set<String>>();
+        ProjectGraph projectGraph = getProjectGraph();
+        for (ClassInfo info : classes.values()) {
+            if (!info.isTestable()) {
+                continue;
+            }
+            String name = info.getClassName();
+            Set<String> dependencies = new LinkedHashSet<String>();
+            try {
+                dependencies.addAll(projectGraph.getCUTsDirectlyUsedAsInput(name, true));
+                dependencies.addAll(projectGraph.getAllCUTsParents(name));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Cannot compute dependencies of " + name + ": " + e.getMessage());
+                changed.add(name);
+            }
+            for (String dependency : dependencies) {
+                Set<String> set = dependents.get(dependency);
+                if (set == null) {
+                    set = new LinkedHashSet<String>();
+                    dependents.put(dependency, set);
+                }
+                set.add(name);
+            }
+        }
+
+        // propagate changes through the dependency closure
+        LinkedList<String> toVisit = new LinkedList<String>(changed);
+        while (!toVisit.isEmpty()) {
+            Set<String> set = dependents.get(toVisit.poll());
+            if (set == null) {
+                continue;
+            }
+            for (String dependent : set) {
+                if (changed.add(dependent)) {
+                    toVisit.add(dependent);
+                }
+            }
+        }
+
+        for (ClassInfo info : classes.values()) {
+            info.setChanged(changed.contains(info.getClassName()));
+        }
+        logger.info("Modified classes since last CTG run: " + modified.size()
+                + ", classes affected by them: " + (changed.size() - modified.size()));
+    }
+
     /**
      * It checks whether EvoSuite was able to improve coverage,
      * test suite size, etc for 'className' in the last N
@@ -182,6 +182,7 @@ public class TestGeneration {
 		LoggingUtils.getEvoLogger().info("* Found " + classes.size()
 		                                         + " matching classes for prefix "
 		                                         + prefix);
+		List<String> targets = new ArrayList<String>();
 		for (String sut : classes) {
 			try {
 				if (ResourceList.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT()).isClassAnInterface(sut)) {
@@ -192,11 +193,79 @@ public class TestGeneration {
 				LoggingUtils.getEvoLogger().info("Could not load class: " + sut);
 				continue;
 			}
+			if (Properties.SINGLE_CLIENT_FOR_ALL_TARGETS) {
+				targets.add(sut);
+				continue;
+			}
 			LoggingUtils.getEvoLogger().info("* Current class: "+ sut);
 			results.addAll(generateTests(Strategy.EVOSUITE,sut,args));
 		}
+		if (!targets.isEmpty()) {
+			results.addAll(generateTestsInSingleClient(Strategy.EVOSUITE, targets, args));
+		}
+		return results;
+	}
+
+	/**
+	 * Generate tests for all the given classes one after the other in the same
+	 * client process, such that the JVM start-up and the loading of EvoSuite
+	 * itself only happen once. Each class still gets the full time budget.
+	 * If the client process stops before it is done (e.g., it crashed or ran
+	 * out of time), a new one takes over the classes that are left.
+	 */
+	private static List<List<TestGenerationResult>> generateTestsInSingleClient(Properties.Strategy strategy,
+	        List<String> targets, List<String> args) {
+		List<String> validTargets = new ArrayList<String>();
+		for (String target : targets) {
+			if (!BytecodeInstrumentation.checkIfCanInstrument(target)) {
+				LoggingUtils.getEvoLogger().info("* Skipping " + target
+				        + " as it belongs to one of the packages EvoSuite cannot currently handle");
+				continue;
+			}
+			validTargets.add(target);
+		}
+		if (validTargets.isEmpty()) {
+			return new ArrayList<List<TestGenerationResult>>();
+		}
+
+		LoggingUtils.getEvoLogger().info("* Going to generate test cases for " + validTargets.size()
+		        + " classes in a single client process");
+
+		List<List<TestGenerationResult>> results = new ArrayList<List<TestGenerationResult>>();
+		int next = 0;
+		while (next < validTargets.size()) {
+			List<String> remaining = validTargets.subList(next, validTargets.size());
+			List<String> clientArgs = new ArrayList<String>(args);
+			clientArgs.add("-Dtarget_classes_file_path=" + writeTargetClassesToFile(remaining));
+
+			// the client sends one list of results per class, in the given order
+			List<List<TestGenerationResult>> clientResults = generateTests(strategy, remaining.get(0), clientArgs,
+			        remaining.size());
+			results.addAll(clientResults);
+			next += clientResults.size();
+
+			if (next < validTargets.size()) {
+				String failed = validTargets.get(next);
+				LoggingUtils.getEvoLogger().info("* Client process stopped while generating tests for " + failed
+				        + ", starting a new one for the remaining classes");
+				results.add(Arrays.asList(TestGenerationResultBuilder.buildErrorResult(
+				        "Client process stopped while generating tests for " + failed)));
+				next++;
+			}
+		}
 		return results;
 	}
+
+	private static String writeTargetClassesToFile(List<String> targets) {
+		try {
+			File file = File.createTempFile("EvoSuite_targetClasses", ".txt");
+			file.deleteOnExit();
+			FileUtils.writeLines(file, targets);
+			return file.getAbsolutePath();
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to create tmp file for target classes: " + e.getMessage());
+		}
+	}
 	
 	private static boolean findTargetClass(String target) {
 
@@ -212,6 +281,16 @@ public class TestGeneration {
 	
 	private static List<List<TestGenerationResult>> generateTests(Properties.Strategy strategy, String target,
 	        List<String> args) {
+		return generateTests(strategy, target, args, 1);
+	}
+
+	/**
+	 * @param numberOfTargets
+	 *            how many classes the client generates tests for, starting
+	 *            with <code>target</code>
+	 */
+	private static List<List<TestGenerationResult>> generateTests(Properties.Strategy strategy, String target,
+	        List<String> args, int numberOfTargets) {
 		
 		LoggingUtils.getEvoLogger().info("* Going to generate test cases for class: "+target);
 		
@@ -476,7 +555,7 @@ public class TestGeneration {
                 boolean logServerStarted = logServer[i].startLogServer();
                 if (!logServerStarted) {
                     logger.error("Cannot start the log server");
-                    return null;
+                    return new ArrayList<List<TestGenerationResult>>();
                 }
                 int logPort = logServer[i].getLogServerPort(); //
                 cmdLineClone.add(1, "-Dmaster_log_port=" + logPort);
@@ -513,7 +592,7 @@ public class TestGeneration {
 				}
 
 				int time = TimeController.getInstance().calculateForHowLongClientWillRunInSeconds();
-				handler.waitForResult(time * 1000); 
+				handler.waitForResult((int) Math.min(Integer.MAX_VALUE, 1000L * time * numberOfTargets)); 
 				try {
 					Thread.sleep(100);
 				} catch (InterruptedException e) {
@@ -567,6 +646,10 @@ public class TestGeneration {
 		//FIXME: tmp hack till understood what TestGenerationResult is...
 		if(hasFailed){
 			logger.error("failed to write statistics data");
+			// in a shared client, the results tell which of the classes the client got done with
+			if(Properties.SINGLE_CLIENT_FOR_ALL_TARGETS){
+				return results;
+			}
 			//note: cannot throw exception because would require refactoring of many SystemTests
 			return new ArrayList<List<TestGenerationResult>>();
 		}
@@ -625,6 +708,7 @@ public class TestGeneration {
 			return results;
 		}
 
+		List<String> targets = new ArrayList<String>();
 		for (String sut : classes) {
 			try {
 				if (ResourceList.getInstance(TestGenerationContext.getInstance().getClassLoaderForSUT()).isClassAnInterface(sut)) {
@@ -635,9 +719,16 @@ public class TestGeneration {
 				LoggingUtils.getEvoLogger().info("Could not load class: " + sut);
 				continue;
 			}
+			if (Properties.SINGLE_CLIENT_FOR_ALL_TARGETS) {
+				targets.add(sut);
+				continue;
+			}
 			LoggingUtils.getEvoLogger().info("* Current class: " + sut);
 			results.addAll(generateTests(strategy,sut,args));
 		}
+		if (!targets.isEmpty()) {
+			results.addAll(generateTestsInSingleClient(strategy, targets, args));
+		}
 		
 		return results;
 	}
@@ -175,6 +175,15 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
 		SearchStatistics.getInstance(clientRmiIdentifier).setOutputVariable(variable, value);
 	}
 
+	@Override
+	public void evosuite_collectStatisticsBatch(String clientRmiIdentifier, Map<RuntimeVariable, Object> variables)
+	        throws RemoteException {
+		SearchStatistics statistics = SearchStatistics.getInstance(clientRmiIdentifier);
+		for (Map.Entry<RuntimeVariable, Object> entry : variables.entrySet()) {
+			statistics.setOutputVariable(entry.getKey(), entry.getValue());
+		}
+	}
+
 	@Override
 	public void evosuite_collectTestGenerationResult(
 			String clientRmiIdentifier, List<TestGenerationResult> results)
@@ -188,6 +197,12 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
 		SearchStatistics.getInstance(clientRmiIdentifier).writeStatisticsForAnalysis();
 	}
 
+	@Override
+	public void evosuite_flushStatisticsForTargetChange(String clientRmiIdentifier)
+			throws RemoteException {
+		SearchStatistics.startNewTarget(clientRmiIdentifier);
+	}
+
 	@Override
 	public void evosuite_updateProperty(String clientRmiIdentifier, String propertyName, Object value)
 			throws RemoteException, IllegalArgumentException, IllegalAccessException, NoSuchParameterException {
@@ -197,8 +212,18 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
     @Override
     public void evosuite_migrate(String clientRmiIdentifier, Set<? extends Chromosome> migrants)
             throws RemoteException {
-        //implements ring topology
         int idSender = Integer.parseInt(clientRmiIdentifier.replaceAll("[^0-9]", ""));
+
+        if (Properties.MIGRATION_TOPOLOGY == Properties.MigrationTopology.FULLY_CONNECTED) {
+            for (int idNeighbour = 0; idNeighbour < Properties.NUM_PARALLEL_CLIENTS; idNeighbour++) {
+                if (idNeighbour != idSender && ClientState.SEARCH.equals(clientStates.get("ClientNode" + idNeighbour))) {
+                    clients.get("ClientNode" + idNeighbour).immigrate(migrants);
+                }
+            }
+            return;
+        }
+
+        //implements ring topology
         int idNeighbour = (idSender + 1) % Properties.NUM_PARALLEL_CLIENTS;
 
         while (!ClientState.SEARCH.equals(clientStates.get("ClientNode" + idNeighbour)) && idNeighbour != idSender) {
@@ -173,6 +173,27 @@ public class SearchStatistics implements Listener<ClientStateInformation>{
 		instances.remove(rmiClientIdentifier);
 	}
 
+	/**
+	 * Write the statistics of the class a client has generated tests for, and
+	 * start collecting them anew for the next class the same client handles.
+	 * The test generation results of all classes are kept.
+	 *
+	 * @param rmiClientIdentifier
+	 */
+	public static void startNewTarget(String rmiClientIdentifier) {
+		SearchStatistics previous = getInstance(rmiClientIdentifier);
+		if (Properties.NEW_STATISTICS && !previous.writeStatistics()) {
+			logger.error("Failed to write statistics data of the previous target class");
+		}
+		if (MasterServices.getInstance().getMasterNode() != null) {
+			MasterServices.getInstance().getMasterNode().deleteListener(previous);
+		}
+
+		SearchStatistics next = new SearchStatistics();
+		next.results.addAll(previous.results);
+		instances.put(rmiClientIdentifier, next);
+	}
+
 	/**
 	 * This method is called when a new individual is sent from a client.
 	 * The individual represents the best individual of the current generation.
@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.FileUtils;
 import org.evosuite.junit.writer.TestSuiteWriter;
@@ -208,4 +209,78 @@ public class JobExecutorIntTest {
 
 		storage.clean();
 	}
+
+	@Test(timeout = 30_000)
+	public void testMemoryAccounting() throws InterruptedException{
+
+		int memory = 1000;
+		CtgConfiguration conf = new CtgConfiguration(memory, 2, 10000, 1, false, AvailableSchedule.SIMPLE);
+		final JobExecutor exe = new JobExecutor(storage, System.getProperty("java.class.path"), conf);
+
+		JobDefinition first = new JobDefinition(30, 600, Simple.class.getName(), 0, null, null);
+		JobDefinition second = new JobDefinition(30, 600, Trivial.class.getName(), 0, null, null);
+		exe.initExecution(Arrays.asList(first, second));
+
+		assertTrue(exe.reserveMemory(first, 100));
+		Assert.assertEquals(600, exe.getMemoryInUseMB());
+
+		//600 + 600 > 1000, so the second job has to wait until the first is done
+		Assert.assertFalse(exe.reserveMemory(second, 100));
+		Assert.assertEquals(600, exe.getMemoryInUseMB());
+
+		Thread t = new Thread(){
+			@Override
+			public void run(){
+				try {
+					Thread.sleep(200);
+				} catch (InterruptedException e) {
+					return;
+				}
+				exe.doneWithJob(first);
+			}
+		};
+		t.start();
+
+		assertTrue(exe.reserveMemory(second, 10_000));
+		Assert.assertEquals(600, exe.getMemoryInUseMB());
+		t.join();
+
+		exe.doneWithJob(second);
+		Assert.assertEquals(0, exe.getMemoryInUseMB());
+
+		//a job needing more than the total memory can still run, but only alone
+		JobDefinition big = new JobDefinition(30, 2 * memory, UsingSimpleAndTrivial.class.getName(), 0, null, null);
+		assertTrue(exe.reserveMemory(big, 100));
+		Assert.assertEquals(2 * memory, exe.getMemoryInUseMB());
+		Assert.assertFalse(exe.reserveMemory(first, 100));
+	}
+
+	@Test(timeout = 30_000)
+	public void testStragglerIsKilled() throws Exception{
+
+		CtgConfiguration conf = new CtgConfiguration(1000, 1, 1, 1, false, AvailableSchedule.SIMPLE);
+		JobExecutor exe = new JobExecutor(storage, System.getProperty("java.class.path"), conf);
+		JobHandler handler = new JobHandler(exe);
+
+		JobDefinition job = new JobDefinition(1, 1000, Simple.class.getName(), 0, null, null);
+
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+				Sleeper.class.getName()).start();
+		try {
+			Assert.assertFalse(handler.waitForProcess(job, process, 1));
+			assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+		} finally {
+			process.destroyForcibly();
+		}
+	}
+
+	/**
+	 * A process that never ends on its own
+	 */
+	public static class Sleeper {
+		public static void main(String[] args) throws InterruptedException {
+			Thread.sleep(Long.MAX_VALUE);
+		}
+	}
 }
@@ -20,7 +20,13 @@
 package org.evosuite.continuous.persistency;
 
 import java.io.File;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 
+import org.evosuite.continuous.project.ProjectStaticData;
+import org.evosuite.continuous.project.ProjectStaticData.ClassInfo;
 import org.evosuite.xsd.Project;
 import org.junit.Assert;
 
@@ -56,4 +62,61 @@ public class StorageManagerTest {
 				
 		Assert.assertEquals(packageName+"."+className, result);
 	}
+
+	/**
+	 * Gives access to the protected setters of the project data
+	 */
+	private static class FingerprintData extends ProjectStaticData {
+		void add(Class<?> theClass, String fingerprint, boolean changed) {
+			ClassInfo info = new ClassInfo(theClass, 1, true);
+			info.setFingerprint(fingerprint);
+			info.setChanged(changed);
+			addNewClass(info);
+		}
+
+		void setPrevious(Map<String, String> fingerprints) {
+			setPreviousFingerprints(fingerprints);
+		}
+	}
+
+	private static class Completed {}
+	private static class Pending {}
+	private static class PendingDependent {}
+	private static class Unchanged {}
+
+	@Test
+	public void testSaveClassFingerprints(){
+
+		StorageManager sm = new StorageManager();
+		sm.clean();
+
+		try{
+			sm = new StorageManager();
+			Map<String, String> previous = new LinkedHashMap<String, String>();
+			previous.put(Completed.class.getName(), "old");
+			previous.put(Pending.class.getName(), "old");
+			previous.put(PendingDependent.class.getName(), "same");
+			previous.put(Unchanged.class.getName(), "same");
+
+			FingerprintData data = new FingerprintData();
+			data.add(Completed.class, "new", true);
+			data.add(Pending.class, "new", true);
+			data.add(PendingDependent.class, "same", true);
+			data.add(Unchanged.class, "same", false);
+			data.setPrevious(previous);
+
+			sm.saveClassFingerprints(data, new LinkedHashSet<String>(Arrays.asList(Completed.class.getName())));
+			Map<String, String> saved = StorageManager.getClassFingerprints();
+
+			// tests were generated for the new bytecode
+			Assert.assertEquals("new", saved.get(Completed.class.getName()));
+			// no tests yet, so still seen as modified in the next run
+			Assert.assertEquals("old", saved.get(Pending.class.getName()));
+			// only its dependencies changed: not stored, so seen as modified in the next run
+			Assert.assertFalse(saved.containsKey(PendingDependent.class.getName()));
+			Assert.assertEquals("same", saved.get(Unchanged.class.getName()));
+		} finally {
+			sm.clean();
+		}
+	}
 }
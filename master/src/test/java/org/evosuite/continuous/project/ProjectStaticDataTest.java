@@ -19,20 +19,31 @@
  */
 package org.evosuite.continuous.project;
 
+import org.evosuite.classpath.ClassPathHandler;
+import org.evosuite.continuous.project.ProjectStaticData.ClassInfo;
 import org.evosuite.xsd.CUT;
 import org.evosuite.xsd.Generation;
 import org.evosuite.xsd.Project;
 import org.evosuite.xsd.TestSuite;
 import org.evosuite.xsd.XSDUtils;
 import org.junit.Assert;
+import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * 
  * @author José Campos
  */
 public class ProjectStaticDataTest {
 
+  @BeforeClass
+  public static void initClass() {
+    ClassPathHandler.getInstance().changeTargetCPtoTheSameAsEvoSuite();
+  }
+
   @Test
   public void testIsToTest_NoData() {
 
@@ -222,4 +233,121 @@ public class ProjectStaticDataTest {
     // coverage has improved
     Assert.assertTrue(data.isToTest("foo.Bar", 3));
   }
+
+  public static class Base {
+    public void foo() {
+    }
+  }
+
+  public static class Sub extends Base {
+    @Override
+    public void foo() {
+    }
+  }
+
+  public static class User {
+    public void use(Base base) {
+    }
+  }
+
+  public static class Client {
+    public void call(User user) {
+    }
+  }
+
+  public static class Other {
+    public void bar() {
+    }
+  }
+
+  private static final Class<?>[] FINGERPRINTED_CLASSES = { Base.class, Sub.class, User.class, Client.class, Other.class };
+
+  private static Map<String, String> getFingerprints() {
+    Map<String, String> fingerprints = new LinkedHashMap<String, String>();
+    for (Class<?> c : FINGERPRINTED_CLASSES) {
+      fingerprints.put(c.getName(), "fingerprint of " + c.getSimpleName());
+    }
+    return fingerprints;
+  }
+
+  /**
+   * Data with the current fingerprints of all classes, and the given ones of the previous CTG run
+   */
+  private static ProjectStaticData createData(Map<String, String> previousFingerprints) {
+    ProjectStaticData data = new ProjectStaticData();
+    Map<String, String> fingerprints = getFingerprints();
+    for (Class<?> c : FINGERPRINTED_CLASSES) {
+      ClassInfo info = new ClassInfo(c, 1, true);
+      info.setFingerprint(fingerprints.get(c.getName()));
+      data.addNewClass(info);
+    }
+    data.setPreviousFingerprints(previousFingerprints);
+    return data;
+  }
+
+  @Test
+  public void testFingerprints_NoChange() {
+    ProjectStaticData data = createData(getFingerprints());
+    Assert.assertTrue(data.isUsingFingerprints());
+
+    data.updateChangesFromFingerprints();
+
+    for (Class<?> c : FINGERPRINTED_CLASSES) {
+      Assert.assertFalse(c.getName(), data.getClassInfo(c.getName()).hasChanged());
+    }
+  }
+
+  @Test
+  public void testFingerprints_ChangedClassAndDependents() {
+    Map<String, String> previous = getFingerprints();
+    previous.put(Base.class.getName(), "old fingerprint of Base");
+    ProjectStaticData data = createData(previous);
+
+    data.updateChangesFromFingerprints();
+
+    // modified
+    Assert.assertTrue(data.getClassInfo(Base.class.getName()).hasChanged());
+    // extends Base
+    Assert.assertTrue(data.getClassInfo(Sub.class.getName()).hasChanged());
+    // uses Base as input
+    Assert.assertTrue(data.getClassInfo(User.class.getName()).hasChanged());
+    // uses User as input, which depends on Base
+    Assert.assertTrue(data.getClassInfo(Client.class.getName()).hasChanged());
+    // unrelated
+    Assert.assertFalse(data.getClassInfo(Other.class.getName()).hasChanged());
+  }
+
+  @Test
+  public void testFingerprints_NewClass() {
+    Map<String, String> previous = getFingerprints();
+    previous.remove(Other.class.getName());
+    ProjectStaticData data = createData(previous);
+
+    data.updateChangesFromFingerprints();
+
+    Assert.assertTrue(data.getClassInfo(Other.class.getName()).hasChanged());
+    Assert.assertFalse(data.getClassInfo(Base.class.getName()).hasChanged());
+    Assert.assertFalse(data.getClassInfo(User.class.getName()).hasChanged());
+  }
+
+  @Test
+  public void testFingerprints_ChangedDependentOnly() {
+    Map<String, String> previous = getFingerprints();
+    previous.put(Client.class.getName(), "old fingerprint of Client");
+    ProjectStaticData data = createData(previous);
+
+    data.updateChangesFromFingerprints();
+
+    // changes are only propagated to the classes depending on the modified one
+    Assert.assertTrue(data.getClassInfo(Client.class.getName()).hasChanged());
+    Assert.assertFalse(data.getClassInfo(User.class.getName()).hasChanged());
+    Assert.assertFalse(data.getClassInfo(Base.class.getName()).hasChanged());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFingerprints_NotLoaded() {
+    ProjectStaticData data = new ProjectStaticData();
+    Assert.assertFalse(data.isUsingFingerprints());
+    data.updateChangesFromFingerprints();
+  }
 }
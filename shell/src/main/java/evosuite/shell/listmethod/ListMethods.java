@@ -21,11 +21,15 @@ import org.evosuite.utils.CollectionUtil;
 import org.evosuite.utils.CommonUtility;
 import org.slf4j.Logger;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 
@@ -38,7 +42,7 @@ public class ListMethods {
 	
 	public static final String OPT_NAME = ParameterOptions.LIST_METHODS_OPT;
 
-	public static List<String> interestedMethods = new ArrayList<>();
+	public static Set<String> interestedMethods = new HashSet<>();
 
 	public static int execute(String[] targetClasses, ClassLoader classLoader, MethodFilterOption mFilterOpt,
 			String targetMethodFilePath, String targetClassFilePath)
@@ -54,7 +58,17 @@ public class ListMethods {
 			.append("#Project=").append(EvosuiteForMethod.projectName).append("  -   ").append(EvosuiteForMethod.projectId).append("\n")
 			.append("#------------------------------------------------------------------------\n");
 		log.info(headerSb.toString());
-		FileUtils.writeFile(targetMethodFilePath, headerSb.toString(), true);
+		/* one writer for the whole project instead of reopening the file for every class */
+		try (BufferedWriter targetMethodWriter = new BufferedWriter(
+				new FileWriter(FileUtils.getFileCreateIfNotExist(targetMethodFilePath), true))) {
+			targetMethodWriter.write(headerSb.toString());
+			targetMethodWriter.flush();
+			return listMethods(targetClasses, classLoader, mFilterOpt, targetMethodWriter, targetClassFilePath);
+		}
+	}
+
+	private static int listMethods(String[] targetClasses, ClassLoader classLoader, MethodFilterOption mFilterOpt,
+			BufferedWriter targetMethodWriter, String targetClassFilePath) throws IOException {
 		if (!ArrayUtil.contains(Properties.CRITERION, Criterion.DEFUSE)) {
 			Properties.CRITERION = ArrayUtils.addAll(Properties.CRITERION, Criterion.DEFUSE);
 		}
@@ -69,7 +83,7 @@ public class ListMethods {
 		
 		IMethodFilter methodFilter = mFilterOpt.getCorrespondingFilter();
 		int total = 0;
-		StringBuilder tMethodSb = new StringBuilder(headerSb.toString());
+		StringBuilder tMethodSb;
 		List<String> testableClasses = new ArrayList<String>();
 		for (String className : targetClasses) {
 			try {
@@ -97,9 +111,9 @@ public class ListMethods {
 					//tMethodSb.append(CommonUtility.getMethodId(className, methodName)).append("\n");
 				}
 				
-				System.currentTimeMillis();
-				/* log to targetMethod.txt file */
-				FileUtils.writeFile(targetMethodFilePath, tMethodSb.toString(), true);
+				/* log to targetMethod.txt file, flushed so that the result of finished classes survives a crash */
+				targetMethodWriter.write(tMethodSb.toString());
+				targetMethodWriter.flush();
 			} catch (Throwable t) {
 				tMethodSb = new StringBuilder();
 				tMethodSb.append("Error when executing class ").append(className);
@@ -113,7 +127,7 @@ public class ListMethods {
 		return total;
 	}
 	
-	private static List<String> readCSVFile() throws IOException {
+	private static Set<String> readCSVFile() throws IOException {
 		String path = "/Users/xucaiyi/Documents/EvoObj-EvoSuite-comparison-testrun/TestGenerationResult/git_space/SF100-clean/constantMethods-60.xls";
 		File f = new File(path);
 //		ExcelReader excelReader = new ExcelReader(f, 3);
@@ -123,7 +137,7 @@ public class ListMethods {
 	    HSSFSheet sheet = wb.getSheetAt(0);
 	    HSSFRow row;
 	    HSSFCell cell;
-	    List<String> interestedMethods = new ArrayList<>();
+	    Set<String> interestedMethods = new HashSet<>();
 	    
 	    String pid = null;
 	    String cla = null;